@@ -2,6 +2,7 @@ package io.specto.hoverfly.junit5;
 
 import io.specto.hoverfly.junit.core.Hoverfly;
 import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.HoverflyPool;
 import io.specto.hoverfly.junit.core.SimulationSource;
 import io.specto.hoverfly.junit5.api.HoverflyCapture;
 import io.specto.hoverfly.junit5.api.HoverflyConfig;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.*;
 
 import java.lang.reflect.AnnotatedElement;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
 import static io.specto.hoverfly.junit5.HoverflyExtensionUtils.*;
@@ -45,6 +47,7 @@ import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
 public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback, AfterAllCallback, BeforeAllCallback, ParameterResolver {
 
     private Hoverfly hoverfly;
+    private HoverflyPool.Lease lease;
     private SimulationSource source = SimulationSource.empty();
     private HoverflyMode mode = SIMULATE;
     private Path capturePath;
@@ -52,11 +55,16 @@ public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback,
     @Override
     public void beforeEach(ExtensionContext context) {
         if (isRunning()) {
-            hoverfly.resetJournal();
-            // Reset to per-class global configuration
-            hoverfly.resetMode(mode);
-            if (mode.allowSimulationImport()) {
-                hoverfly.simulate(source);
+            // The journal does not depend on the mode or simulation, so it is reset while they are set
+            final CompletableFuture<Void> journalReset = hoverfly.resetJournalAsync();
+            try {
+                // Reset to per-class global configuration
+                hoverfly.resetMode(mode);
+                if (mode.allowSimulationImport()) {
+                    hoverfly.simulate(source);
+                }
+            } finally {
+                journalReset.join();
             }
         }
     }
@@ -67,6 +75,7 @@ public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback,
         AnnotatedElement annotatedElement = context.getElement().orElseThrow(() -> new IllegalStateException("No test class found."));
 
         HoverflyConfig config = null;
+        boolean cachedSource = false;
 
         if (isAnnotated(annotatedElement, HoverflySimulate.class)) {
             HoverflySimulate hoverflySimulate = annotatedElement.getAnnotation(HoverflySimulate.class);
@@ -75,6 +84,7 @@ public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback,
             String path = getPath(context, hoverflySimulate.source());
             HoverflySimulate.SourceType type = hoverflySimulate.source().type();
             source = getSimulationSource(path, type);
+            cachedSource = isCached(type);
 
             if(hoverflySimulate.enableAutoCapture()) {
                 AutoCaptureSource.newInstance(path, type).ifPresent(source -> {
@@ -107,11 +117,30 @@ public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback,
             String path = getPath(context, hoverflyDiff.source());
             HoverflySimulate.SourceType type = hoverflyDiff.source().type();
             source = getSimulationSource(path, type);
+            cachedSource = isCached(type);
         }
 
+        boolean starting = false;
         if (!isRunning()) {
-            hoverfly = new Hoverfly(getHoverflyConfigs(config), mode);
-            hoverfly.start();
+            if (config != null && config.pooled()) {
+                lease = HoverflyPool.getDefault().lease(getHoverflyConfigs(config), mode);
+                hoverfly = lease.getHoverfly();
+            } else {
+                hoverfly = new Hoverfly(getHoverflyConfigs(config), mode);
+                hoverfly.startAsync();
+                starting = true;
+            }
+        }
+
+        // Load the cached simulation while Hoverfly is still booting, so that importing it does not wait for the read
+        try {
+            if (mode.allowSimulationImport() && cachedSource) {
+                warmUp(source);
+            }
+        } finally {
+            if (starting) {
+                hoverfly.start();
+            }
         }
 
         if (mode.allowSimulationImport()) {
@@ -147,7 +176,12 @@ public class HoverflyExtension implements AfterEachCallback, BeforeEachCallback,
                     this.hoverfly.exportSimulation(this.capturePath);
                 }
             } finally {
-                this.hoverfly.close();
+                if (this.lease != null) {
+                    this.lease.close();
+                    this.lease = null;
+                } else {
+                    this.hoverfly.close();
+                }
                 this.hoverfly = null;
             }
         }
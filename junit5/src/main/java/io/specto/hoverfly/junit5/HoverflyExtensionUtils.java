@@ -9,6 +9,10 @@ import io.specto.hoverfly.junit5.api.HoverflySimulate;
 import io.specto.hoverfly.junit5.api.UnsetSimulationPreprocessor;
 import org.junit.platform.commons.util.ReflectionUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -55,13 +59,13 @@ class HoverflyExtensionUtils {
         SimulationSource source = SimulationSource.empty();
         switch (type) {
             case DEFAULT_PATH:
-                source = defaultPath(value);
+                source = SimulationSource.cached(defaultPath(value));
                 break;
             case URL:
                 source = SimulationSource.url(value);
                 break;
             case CLASSPATH:
-                source = SimulationSource.classpath(value);
+                source = SimulationSource.cached(SimulationSource.classpath(value));
                 break;
             case FILE:
                 source = SimulationSource.file(Paths.get(value));
@@ -70,6 +74,36 @@ class HoverflyExtensionUtils {
         return source;
     }
 
+    // Only these source types are wrapped with SimulationSource.cached
+    static boolean isCached(HoverflySimulate.SourceType type) {
+        return type == HoverflySimulate.SourceType.DEFAULT_PATH || type == HoverflySimulate.SourceType.CLASSPATH;
+    }
+
+    // Loads a cached source into its cache, by writing the content to a channel that discards it
+    static void warmUp(SimulationSource source) {
+        try {
+            source.writeTo(new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer src) {
+                    final int length = src.remaining();
+                    src.position(src.limit());
+                    return length;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read simulation", e);
+        }
+    }
+
     static String getFileNameFromTestClass(Class<?> testClass) {
         return testClass.getCanonicalName().replace('.', '_').replace('$', '_').concat(".json");
     }
@@ -102,6 +136,15 @@ class HoverflyExtensionUtils {
         if (configParams.statefulCapture()) {
             configs.enableStatefulCapture();
         }
+        if (configParams.scopedClients()) {
+            configs.scopedClients();
+        }
+        if (configParams.verifySkippedImports()) {
+            configs.verifySkippedImports();
+        }
+        if (configParams.compactSimulationExport()) {
+            configs.compactSimulationExport();
+        }
     }
 
     private static SimulationPreprocessor getSimulationPreprocessor(HoverflyConfig configParams) {
@@ -1,6 +1,7 @@
 package io.specto.hoverfly.junit5.api;
 
 
+import io.specto.hoverfly.junit.core.HoverflyPool;
 import io.specto.hoverfly.junit.core.SimulationPreprocessor;
 import io.specto.hoverfly.junit.core.config.LocalHoverflyConfig;
 import io.specto.hoverfly.junit.core.config.LogLevel;
@@ -98,4 +99,25 @@ public @interface HoverflyConfig {
      * Set Hoverfly log level
      */
     LogLevel logLevel() default LogLevel.INFO;
+
+    /**
+     * Lease a running Hoverfly from the JVM-wide {@link HoverflyPool} instead of starting a new process for the test class
+     */
+    boolean pooled() default false;
+
+    /**
+     * Leave the JVM proxy settings and trust store untouched, so that test classes can run in parallel, each with its
+     * own Hoverfly {@link io.specto.hoverfly.junit.core.HoverflyConfig#scopedClients()}
+     */
+    boolean scopedClients() default false;
+
+    /**
+     * Check that the simulation in Hoverfly was not changed before skipping the import of a simulation it already has
+     */
+    boolean verifySkippedImports() default false;
+
+    /**
+     * Export captured simulations as compact JSON instead of pretty printing them
+     */
+    boolean compactSimulationExport() default false;
 }
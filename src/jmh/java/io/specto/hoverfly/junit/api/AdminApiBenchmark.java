@@ -0,0 +1,104 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.benchmark.BenchmarkFixtures;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures round trips of the admin client against an in-process server that answers like the Hoverfly admin API
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdminApiBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private MockWebServer server;
+    private HoverflyClient client;
+    private SimulationSource simulationSource;
+
+    @Setup
+    public void setUp() throws IOException {
+        final String simulationJson = BenchmarkFixtures.simulationJson(size);
+        final String journalJson = BenchmarkFixtures.journalJson(size);
+        simulationSource = SimulationSource.dsl(BenchmarkFixtures.stubService(size));
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                final String path = request.getPath();
+                if (path.startsWith("/api/health")) {
+                    return json("{\"message\":\"Hoverfly is healthy\"}");
+                } else if (path.startsWith("/api/v2/simulation") && "GET".equals(request.getMethod())) {
+                    return json(simulationJson);
+                } else if (path.startsWith("/api/v2/journal")) {
+                    return json(journalJson);
+                }
+                return new MockResponse().setResponseCode(200);
+            }
+        });
+        server.start();
+
+        client = HoverflyClient.custom()
+                .host(server.getHostName())
+                .port(server.getPort())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public boolean getHealth() {
+        return client.getHealth();
+    }
+
+    @Benchmark
+    public Simulation getSimulation() {
+        return client.getSimulation();
+    }
+
+    @Benchmark
+    public void setSimulation() {
+        client.setSimulation(simulationSource);
+    }
+
+    @Benchmark
+    public Journal getJournal() {
+        return client.getJournal(0, size);
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody(body);
+    }
+}
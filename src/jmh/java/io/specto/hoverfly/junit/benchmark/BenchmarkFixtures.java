@@ -0,0 +1,83 @@
+package io.specto.hoverfly.junit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.Response;
+import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+/**
+ * Generates the simulations and journals that the benchmarks work on
+ */
+public final class BenchmarkFixtures {
+
+    public static final String DESTINATION = "www.my-test.com";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static StubServiceBuilder stubService(int pairCount) {
+        StubServiceBuilder builder = service(DESTINATION);
+        for (int i = 0; i < pairCount; i++) {
+            builder = builder.get("/api/bookings/" + i)
+                    .queryParam("page", i % 10)
+                    .header("Accept", "application/json")
+                    .willReturn(success("{\"bookingId\":\"" + i + "\"}", "application/json"));
+        }
+        return builder;
+    }
+
+    public static String simulationJson(int pairCount) {
+        return SimulationSource.dsl(stubService(pairCount)).getSimulation();
+    }
+
+    public static Journal journal(int entryCount) {
+        final List<JournalEntry> entries = new ArrayList<>(entryCount);
+        final ZonedDateTime timeStarted = ZonedDateTime.of(2019, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < entryCount; i++) {
+            final Map<String, List<String>> requestHeaders = new HashMap<>();
+            requestHeaders.put("Accept", singletonList("application/json"));
+            requestHeaders.put("User-Agent", singletonList("okhttp/3.12.0"));
+            final RequestDetails request = new RequestDetails("http", DESTINATION, "/api/bookings/" + i,
+                    "page=" + (i % 10), "", "GET", requestHeaders);
+
+            final Map<String, List<String>> responseHeaders = new HashMap<>();
+            responseHeaders.put("Content-Type", singletonList("application/json"));
+            final Response response = new Response(200, "{\"bookingId\":\"" + i + "\"}", false, false,
+                    responseHeaders, emptyMap(), emptyList());
+
+            entries.add(new JournalEntry(request, response, "simulate", timeStarted.plusNanos(i * 1000L), 0.5));
+        }
+        return new Journal(entries, 0, entryCount, entryCount);
+    }
+
+    public static String journalJson(int entryCount) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(journal(entryCount));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write journal", e);
+        }
+    }
+}
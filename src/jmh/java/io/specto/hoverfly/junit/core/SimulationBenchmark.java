@@ -0,0 +1,64 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.benchmark.BenchmarkFixtures;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a simulation with the DSL, and converting it to and from JSON with {@link HoverflyUtils}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimulationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int pairCount;
+
+    private Simulation simulation;
+    private String simulationJson;
+
+    @Setup
+    public void setUp() {
+        simulationJson = BenchmarkFixtures.simulationJson(pairCount);
+        simulation = HoverflyUtils.readSimulationFromString(simulationJson);
+    }
+
+    @Benchmark
+    public StubServiceBuilder buildWithDsl() {
+        final StubServiceBuilder builder = BenchmarkFixtures.stubService(pairCount);
+        builder.getRequestResponsePairs();
+        return builder;
+    }
+
+    @Benchmark
+    public String buildWithDslAndSerialise() {
+        return SimulationSource.dsl(BenchmarkFixtures.stubService(pairCount)).getSimulation();
+    }
+
+    @Benchmark
+    public String writeSimulationAsString() {
+        return HoverflyUtils.writeSimulationAsString(simulation);
+    }
+
+    @Benchmark
+    public Simulation readSimulationFromString() {
+        return HoverflyUtils.readSimulationFromString(simulationJson);
+    }
+}
@@ -0,0 +1,244 @@
+package io.specto.hoverfly.junit.core.model;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newExactMatcher;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newGlobMatcher;
+import static java.util.Collections.singletonList;
+
+/**
+ * Measures hashing and comparing request response pairs, as done when collecting them into a {@link LinkedHashSet}.
+ * The reflection based benchmarks are the baseline, and use copies of the model as it was before, with the same fields
+ * and reflective equals and hashCode at every level.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelHashingBenchmark {
+
+    @Param("100000")
+    private int pairCount;
+
+    private List<RequestResponsePair> pairs;
+    private List<RequestResponsePair> copies;
+    private List<ReflectivePair> reflectivePairs;
+    private List<ReflectivePair> reflectiveCopies;
+
+    @Setup
+    public void setUp() {
+        pairs = createPairs(pairCount);
+        copies = createPairs(pairCount);
+        reflectivePairs = pairs.stream().map(ReflectivePair::new).collect(Collectors.toList());
+        reflectiveCopies = copies.stream().map(ReflectivePair::new).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Set<RequestResponsePair> collectIntoLinkedHashSet() {
+        return new LinkedHashSet<>(pairs);
+    }
+
+    @Benchmark
+    public Set<ReflectivePair> reflectionCollectIntoLinkedHashSet() {
+        return new LinkedHashSet<>(reflectivePairs);
+    }
+
+    @Benchmark
+    public void hashCodes(Blackhole blackhole) {
+        for (RequestResponsePair pair : pairs) {
+            blackhole.consume(pair.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void reflectionHashCodes(Blackhole blackhole) {
+        for (ReflectivePair pair : reflectivePairs) {
+            blackhole.consume(pair.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void equalsOfEqualPairs(Blackhole blackhole) {
+        for (int i = 0; i < pairs.size(); i++) {
+            blackhole.consume(pairs.get(i).equals(copies.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void reflectionEqualsOfEqualPairs(Blackhole blackhole) {
+        for (int i = 0; i < reflectivePairs.size(); i++) {
+            blackhole.consume(reflectivePairs.get(i).equals(reflectiveCopies.get(i)));
+        }
+    }
+
+    private static List<RequestResponsePair> createPairs(int count) {
+        final List<RequestResponsePair> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Map<String, List<RequestFieldMatcher>> requestHeaders = new HashMap<>();
+            requestHeaders.put("Content-Type", singletonList(newExactMatcher("application/json")));
+            final Request request = new Request.Builder()
+                    .path(singletonList(newExactMatcher("/api/bookings/" + i)))
+                    .method(singletonList(newExactMatcher("GET")))
+                    .destination(singletonList(newGlobMatcher("*.my-test.com")))
+                    .scheme(singletonList(newExactMatcher("http")))
+                    .body(singletonList(newExactMatcher("")))
+                    .headers(requestHeaders)
+                    .build();
+
+            final Map<String, List<String>> responseHeaders = new HashMap<>();
+            responseHeaders.put("Content-Type", singletonList("application/json"));
+            final Response response = new Response.Builder()
+                    .status(200)
+                    .body("{\"bookingId\":\"" + i + "\"}")
+                    .headers(responseHeaders)
+                    .transitionsState(Collections.emptyMap())
+                    .removesState(Collections.emptyList())
+                    .build();
+
+            result.add(new RequestResponsePair(request, response));
+        }
+        return result;
+    }
+
+    private static List<ReflectiveMatcher> matchers(List<RequestFieldMatcher> matchers) {
+        return matchers == null ? null : matchers.stream().map(ReflectiveMatcher::new).collect(Collectors.toList());
+    }
+
+    private static Map<String, List<ReflectiveMatcher>> matchers(Map<String, List<RequestFieldMatcher>> matchers) {
+        if (matchers == null) {
+            return null;
+        }
+        final Map<String, List<ReflectiveMatcher>> result = new HashMap<>();
+        matchers.forEach((key, value) -> result.put(key, matchers(value)));
+        return result;
+    }
+
+    private static class ReflectivePair {
+        private final ReflectiveRequest request;
+        private final ReflectiveResponse response;
+
+        private ReflectivePair(RequestResponsePair pair) {
+            this.request = new ReflectiveRequest(pair.getRequest());
+            this.response = new ReflectiveResponse(pair.getResponse());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return EqualsBuilder.reflectionEquals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+
+    private static class ReflectiveRequest {
+        private final List<ReflectiveMatcher> path;
+        private final List<ReflectiveMatcher> method;
+        private final List<ReflectiveMatcher> destination;
+        private final List<ReflectiveMatcher> scheme;
+        private final Map<String, List<ReflectiveMatcher>> query;
+        private final List<ReflectiveMatcher> deprecatedQuery;
+        private final List<ReflectiveMatcher> body;
+        private final Map<String, List<ReflectiveMatcher>> headers;
+        private final Map<String, String> requiresState;
+
+        private ReflectiveRequest(Request request) {
+            this.path = matchers(request.getPath());
+            this.method = matchers(request.getMethod());
+            this.destination = matchers(request.getDestination());
+            this.scheme = matchers(request.getScheme());
+            this.query = matchers(request.getQuery());
+            this.deprecatedQuery = matchers(request.getDeprecatedQuery());
+            this.body = matchers(request.getBody());
+            this.headers = matchers(request.getHeaders());
+            this.requiresState = request.getRequiresState();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return EqualsBuilder.reflectionEquals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+
+    private static class ReflectiveMatcher {
+        private final RequestFieldMatcher.MatcherType matcher;
+        private final Object value;
+
+        private ReflectiveMatcher(RequestFieldMatcher<?> matcher) {
+            this.matcher = matcher.getMatcher();
+            this.value = matcher.getValue();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return EqualsBuilder.reflectionEquals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+
+    private static class ReflectiveResponse {
+        private final Integer status;
+        private final String body;
+        private final boolean encodedBody;
+        private final boolean templated;
+        private final Map<String, List<String>> headers;
+        private final Map<String, String> transitionsState;
+        private final List<String> removesState;
+
+        private ReflectiveResponse(Response response) {
+            this.status = response.getStatus();
+            this.body = response.getBody();
+            this.encodedBody = response.isEncodedBody();
+            this.templated = response.isTemplated();
+            this.headers = response.getHeaders();
+            this.transitionsState = response.getTransitionsState();
+            this.removesState = response.getRemovesState();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return EqualsBuilder.reflectionEquals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.benchmark.BenchmarkFixtures;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newExactMatcher;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newGlobMatcher;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newRegexMatcher;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+/**
+ * Measures finding the request matchers that match a request with an index, compared to trying every matcher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestMatcherIndexBenchmark {
+
+    @Param({"50000"})
+    private int pairCount;
+
+    private RequestMatcherIndex<Integer> index;
+    private List<LocalRequestMatcher> matchers;
+    private RequestDetails request;
+
+    @Setup
+    public void setUp() {
+        index = new RequestMatcherIndex<>();
+        matchers = new ArrayList<>(pairCount);
+        for (int i = 0; i < pairCount; i++) {
+            final Request request = request(i);
+            index.add(request, i);
+            matchers.add(new LocalRequestMatcher(request));
+        }
+        // Matches the exact path of one GET pair, whose group also holds the unanchored regex paths
+        request = new RequestDetails("http", BenchmarkFixtures.DESTINATION, "/api/bookings/" + (pairCount / 2 + 2),
+                "", "", "GET", emptyMap());
+    }
+
+    @Benchmark
+    public List<Integer> findWithIndex() {
+        return index.findAll(request);
+    }
+
+    @Benchmark
+    public List<Integer> findWithLinearScan() {
+        final List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(request)) {
+                matches.add(i);
+            }
+        }
+        return matches;
+    }
+
+    // Mostly exact paths, with some glob and anchored regex paths that are indexed by prefix, and a few unanchored
+    // regex paths that cannot be indexed
+    private static Request request(int i) {
+        final Request.Builder builder = new Request.Builder()
+                .method(singletonList(newExactMatcher(i % 2 == 0 ? "GET" : "POST")))
+                .destination(singletonList(newExactMatcher(BenchmarkFixtures.DESTINATION)));
+        if (i % 100 == 0) {
+            return builder.path(singletonList(newRegexMatcher("^/api/flights/" + i + "/.*"))).build();
+        }
+        if (i % 100 == 50) {
+            return builder.path(singletonList(newRegexMatcher("/flights/" + i + "$"))).build();
+        }
+        if (i % 10 == 0) {
+            return builder.path(singletonList(newGlobMatcher("/api/bookings/" + i + "/*"))).build();
+        }
+        return builder.path(singletonList(newExactMatcher("/api/bookings/" + i))).build();
+    }
+}
@@ -0,0 +1,70 @@
+package io.specto.hoverfly.junit.verification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.specto.hoverfly.junit.benchmark.BenchmarkFixtures;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newExactMatcher;
+import static java.util.Collections.singletonList;
+
+/**
+ * Measures reading a journal the way the admin client does, and formatting the message of a failed verification
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerificationBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Param({"10", "1000"})
+    private int entryCount;
+
+    private String journalJson;
+    private VerificationData verificationData;
+    private Request request;
+
+    @Setup
+    public void setUp() {
+        journalJson = BenchmarkFixtures.journalJson(entryCount);
+        verificationData = new VerificationData(BenchmarkFixtures.journal(entryCount));
+        request = new Request.Builder()
+                .destination(singletonList(newExactMatcher(BenchmarkFixtures.DESTINATION)))
+                .path(singletonList(newExactMatcher("/api/bookings/0")))
+                .build();
+    }
+
+    @Benchmark
+    public Journal readJournal() throws IOException {
+        return OBJECT_MAPPER.readValue(journalJson, Journal.class);
+    }
+
+    @Benchmark
+    public String formatVerificationFailure() {
+        try {
+            HoverflyVerifications.never().verify(request, verificationData);
+        } catch (HoverflyVerificationError e) {
+            return e.getMessage();
+        }
+        throw new IllegalStateException("Verification should have failed");
+    }
+}
@@ -0,0 +1,191 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.specto.hoverfly.junit.api.command.DestinationCommand;
+import io.specto.hoverfly.junit.api.command.JournalSearchCommand;
+import io.specto.hoverfly.junit.api.command.ModeCommand;
+import io.specto.hoverfly.junit.api.command.SortParams;
+import io.specto.hoverfly.junit.api.view.StateView;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.IOException;
+
+/**
+ * Builds the requests to the Hoverfly Admin API, for both the blocking {@link OkHttpHoverflyClient} and the
+ * {@link OkHttpAsyncHoverflyClient}
+ */
+class AdminRequestFactory {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private static final String HEALTH_CHECK_PATH = "api/health";
+    private static final String SIMULATION_PATH = "api/v2/simulation";
+    private static final String INFO_PATH = "api/v2/hoverfly";
+    private static final String DESTINATION_PATH = "api/v2/hoverfly/destination";
+    private static final String MODE_PATH = "api/v2/hoverfly/mode";
+    private static final String JOURNAL_PATH = "api/v2/journal";
+    private static final String STATE_PATH = "api/v2/state";
+    private static final String DIFF_PATH = "api/v2/diff";
+
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final HttpUrl baseUrl;
+
+    AdminRequestFactory(HttpUrl baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    Request getHealth() {
+        return createRequestBuilderWithUrl(HEALTH_CHECK_PATH).get().build();
+    }
+
+    Request setSimulation(Simulation simulation) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(SIMULATION_PATH).put(createRequestBody(simulation)).build();
+    }
+
+    Request setSimulation(String simulation) {
+        return createRequestBuilderWithUrl(SIMULATION_PATH).put(RequestBody.create(JSON, simulation)).build();
+    }
+
+    Request setSimulation(SimulationSource simulationSource) {
+        return createRequestBuilderWithUrl(SIMULATION_PATH).put(new SimulationSourceRequestBody(simulationSource)).build();
+    }
+
+    Request getSimulation() {
+        return createRequestBuilderWithUrl(SIMULATION_PATH).get().build();
+    }
+
+    Request deleteSimulation() {
+        return createRequestBuilderWithUrl(SIMULATION_PATH).delete().build();
+    }
+
+    Request getJournal(int offset, int limit, SortParams sortParams) {
+        return new Request.Builder().url(createJournalUrl(offset, limit, sortParams)).get().build();
+    }
+
+    HttpUrl createJournalUrl(int offset, int limit, SortParams sortParams) {
+        HttpUrl.Builder urlBuilder = baseUrl.newBuilder()
+                .addPathSegments(JOURNAL_PATH)
+                .addQueryParameter("offset", String.valueOf(offset))
+                .addQueryParameter("limit", String.valueOf(limit));
+
+        if (sortParams != null) {
+            urlBuilder.addQueryParameter("sort", sortParams.toString());
+        }
+        return urlBuilder.build();
+    }
+
+    Request searchJournal(io.specto.hoverfly.junit.core.model.Request requestMatcher) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(JOURNAL_PATH).post(createRequestBody(new JournalSearchCommand(requestMatcher))).build();
+    }
+
+    Request deleteJournal() {
+        return createRequestBuilderWithUrl(JOURNAL_PATH).delete().build();
+    }
+
+    Request getState() {
+        return createRequestBuilderWithUrl(STATE_PATH).get().build();
+    }
+
+    Request setState(StateView stateView) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(STATE_PATH).put(createRequestBody(stateView)).build();
+    }
+
+    Request updateState(StateView stateView) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(STATE_PATH).patch(createRequestBody(stateView)).build();
+    }
+
+    Request deleteState() {
+        return createRequestBuilderWithUrl(STATE_PATH).delete().build();
+    }
+
+    Request getDiffs() {
+        return createRequestBuilderWithUrl(DIFF_PATH).get().build();
+    }
+
+    Request deleteDiffs() {
+        return createRequestBuilderWithUrl(DIFF_PATH).delete().build();
+    }
+
+    Request getConfigInfo() {
+        return createRequestBuilderWithUrl(INFO_PATH).get().build();
+    }
+
+    Request setDestination(String destination) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(DESTINATION_PATH).put(createRequestBody(new DestinationCommand(destination))).build();
+    }
+
+    Request setMode(ModeCommand modeCommand) throws JsonProcessingException {
+        return createRequestBuilderWithUrl(MODE_PATH).put(createRequestBody(modeCommand)).build();
+    }
+
+    // Create request builder from Admin API path
+    private Request.Builder createRequestBuilderWithUrl(String path) {
+        return new Request.Builder()
+                .url(baseUrl.newBuilder().addPathSegments(path).build());
+    }
+
+    // Convert object to JSON request body
+    private static RequestBody createRequestBody(Object data) throws JsonProcessingException {
+        return RequestBody.create(JSON, OBJECT_MAPPER.writeValueAsString(data));
+    }
+
+    /**
+     * Writes the simulation straight from the source to the connection. OkHttp only reports an {@link IOException} to
+     * the callback of an asynchronous call, so a source that fails is reported as a {@link SimulationSourceException}.
+     */
+    private static class SimulationSourceRequestBody extends RequestBody {
+
+        private final SimulationSource simulationSource;
+
+        private SimulationSourceRequestBody(SimulationSource simulationSource) {
+            this.simulationSource = simulationSource;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return JSON;
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            try {
+                return simulationSource.contentLength();
+            } catch (RuntimeException e) {
+                throw new SimulationSourceException(e);
+            }
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            try {
+                simulationSource.writeTo(sink);
+            } catch (RuntimeException e) {
+                throw new SimulationSourceException(e);
+            }
+        }
+    }
+
+    /**
+     * Thrown when a simulation source cannot be written to a request, carrying the exception of the source
+     */
+    static class SimulationSourceException extends IOException {
+
+        private SimulationSourceException(RuntimeException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.api.model.ModeArguments;
+import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.Simulation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking http client for Hoverfly admin endpoints. Calls return immediately, so independent calls can be in flight
+ * at the same time. A failed call completes its future exceptionally with a {@link HoverflyClientException}.
+ */
+public interface AsyncHoverflyClient {
+
+    CompletableFuture<Void> setSimulation(Simulation simulation);
+
+    /**
+     * Imports a simulation from a {@link SimulationSource}. The future completes exceptionally with an
+     * {@link IllegalArgumentException} if the simulation source cannot be read.
+     * @param simulationSource the simulation to import
+     * @return a future that completes once the simulation is imported
+     */
+    CompletableFuture<Void> setSimulation(SimulationSource simulationSource);
+
+    CompletableFuture<Simulation> getSimulation();
+
+    CompletableFuture<Void> deleteSimulation();
+
+    CompletableFuture<Journal> getJournal(int offset, int limit);
+
+    CompletableFuture<Journal> searchJournal(Request request);
+
+    CompletableFuture<Void> deleteJournal();
+
+    CompletableFuture<Void> deleteState();
+
+    CompletableFuture<Void> cleanDiffs();
+
+    CompletableFuture<Void> setDestination(String destination);
+
+    CompletableFuture<Void> setMode(HoverflyMode mode);
+
+    CompletableFuture<Void> setMode(HoverflyMode mode, ModeArguments modeArguments);
+
+    /**
+     * Check Hoverfly is healthy
+     * @return a future of the status of Hoverfly, which never completes exceptionally
+     */
+    CompletableFuture<Boolean> getHealth();
+
+    /**
+     * Gets an asynchronous view of a {@link HoverflyClient}. Clients built by {@link HoverflyClient.Builder} queue the
+     * calls on their connection pool, and any other client is called on a shared thread pool.
+     * @param hoverflyClient the client to call
+     * @return the asynchronous client
+     */
+    static AsyncHoverflyClient from(HoverflyClient hoverflyClient) {
+        if (hoverflyClient instanceof OkHttpHoverflyClient) {
+            return ((OkHttpHoverflyClient) hoverflyClient).async();
+        }
+        return new ExecutorAsyncHoverflyClient(hoverflyClient, ExecutorAsyncHoverflyClient.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Gets an asynchronous view of a {@link HoverflyClient} that calls it on the given executor
+     * @param hoverflyClient the client to call
+     * @param executor the executor to make the blocking calls on
+     * @return the asynchronous client
+     */
+    static AsyncHoverflyClient from(HoverflyClient hoverflyClient, Executor executor) {
+        return new ExecutorAsyncHoverflyClient(hoverflyClient, executor);
+    }
+}
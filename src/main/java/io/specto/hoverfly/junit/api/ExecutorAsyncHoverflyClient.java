@@ -0,0 +1,119 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.api.model.ModeArguments;
+import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.Simulation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncHoverflyClient} that makes the calls of a blocking {@link HoverflyClient} on an executor
+ */
+class ExecutorAsyncHoverflyClient implements AsyncHoverflyClient {
+
+    static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "hoverfly-client");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HoverflyClient hoverflyClient;
+    private final Executor executor;
+
+    ExecutorAsyncHoverflyClient(HoverflyClient hoverflyClient, Executor executor) {
+        this.hoverflyClient = hoverflyClient;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Void> setSimulation(Simulation simulation) {
+        return run(() -> hoverflyClient.setSimulation(simulation));
+    }
+
+    @Override
+    public CompletableFuture<Void> setSimulation(SimulationSource simulationSource) {
+        return run(() -> hoverflyClient.setSimulation(simulationSource));
+    }
+
+    @Override
+    public CompletableFuture<Simulation> getSimulation() {
+        return call(hoverflyClient::getSimulation);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSimulation() {
+        return run(hoverflyClient::deleteSimulation);
+    }
+
+    @Override
+    public CompletableFuture<Journal> getJournal(int offset, int limit) {
+        return call(() -> hoverflyClient.getJournal(offset, limit));
+    }
+
+    @Override
+    public CompletableFuture<Journal> searchJournal(Request request) {
+        return call(() -> hoverflyClient.searchJournal(request));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteJournal() {
+        return run(hoverflyClient::deleteJournal);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteState() {
+        return run(hoverflyClient::deleteState);
+    }
+
+    @Override
+    public CompletableFuture<Void> cleanDiffs() {
+        return run(hoverflyClient::cleanDiffs);
+    }
+
+    @Override
+    public CompletableFuture<Void> setDestination(String destination) {
+        return run(() -> hoverflyClient.setDestination(destination));
+    }
+
+    @Override
+    public CompletableFuture<Void> setMode(HoverflyMode mode) {
+        return run(() -> hoverflyClient.setMode(mode));
+    }
+
+    @Override
+    public CompletableFuture<Void> setMode(HoverflyMode mode, ModeArguments modeArguments) {
+        return run(() -> hoverflyClient.setMode(mode, modeArguments));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getHealth() {
+        return call(hoverflyClient::getHealth).exceptionally(e -> false);
+    }
+
+    private CompletableFuture<Void> run(Runnable runnable) {
+        return call(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    // Unlike CompletableFuture.supplyAsync, completes with the exception thrown by the client rather than a CompletionException
+    private <T> CompletableFuture<T> call(Supplier<T> supplier) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+}
@@ -9,10 +9,16 @@ import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.api.view.StateView;
 import io.specto.hoverfly.junit.core.HoverflyConstants;
 import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
 import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
 import io.specto.hoverfly.junit.core.model.Request;
 import io.specto.hoverfly.junit.core.model.Simulation;
 
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
 /**
  * Http client for querying Hoverfly admin endpoints
  */
@@ -23,6 +29,15 @@ public interface HoverflyClient {
 
     void setSimulation(String simulation);
 
+    /**
+     * Imports a simulation from a {@link SimulationSource}. Implementations may stream the simulation to Hoverfly
+     * instead of reading it into memory first.
+     * @param simulationSource the simulation to import
+     */
+    default void setSimulation(SimulationSource simulationSource) {
+        setSimulation(simulationSource.getSimulation());
+    }
+
     Simulation getSimulation();
 
     /**
@@ -37,6 +52,27 @@ public interface HoverflyClient {
 
     Journal getJournal(int offset, int limit, SortParams sortParams);
 
+    /**
+     * Streams the journal one page at a time, so that a large journal does not need to fit in memory. Pages are fetched
+     * lazily as the stream is consumed. Close the stream if it is not consumed to the end.
+     * @param pageSize the number of journal entries to fetch at a time
+     * @param sortParams the order of the entries, or null for the order of Hoverfly
+     * @return the journal entries
+     */
+    default Stream<JournalEntry> streamJournal(int pageSize, SortParams sortParams) {
+        return JournalStreams.paged(offset -> getJournal(offset, pageSize, sortParams), pageSize);
+    }
+
+    /**
+     * Streams the journal one page at a time
+     * @param pageSize the number of journal entries to fetch at a time
+     * @return the journal entries
+     * @see #streamJournal(int, SortParams)
+     */
+    default Stream<JournalEntry> streamJournal(int pageSize) {
+        return streamJournal(pageSize, null);
+    }
+
     Journal searchJournal(Request request);
 
     void deleteJournal();
@@ -119,6 +155,13 @@ public interface HoverflyClient {
         private String host = HoverflyConstants.LOCALHOST;
         private int port = HoverflyConstants.DEFAULT_ADMIN_PORT;
         private String authToken = null;
+        private long connectTimeoutMillis = OkHttpClientSettings.DEFAULT_TIMEOUT_MILLIS;
+        private long readTimeoutMillis = OkHttpClientSettings.DEFAULT_TIMEOUT_MILLIS;
+        private long writeTimeoutMillis = OkHttpClientSettings.DEFAULT_TIMEOUT_MILLIS;
+        private int maxIdleConnections = OkHttpClientSettings.DEFAULT_MAX_IDLE_CONNECTIONS;
+        private long keepAliveDurationMillis = OkHttpClientSettings.DEFAULT_KEEP_ALIVE_DURATION_MILLIS;
+        private int maxRequestsPerHost = OkHttpClientSettings.DEFAULT_MAX_REQUESTS_PER_HOST;
+        private HoverflyMetrics metrics = HoverflyMetrics.NOOP;
 
         Builder() {
         }
@@ -147,8 +190,81 @@ public interface HoverflyClient {
             return this;
         }
 
+        /**
+         * Sets the timeout for connecting to the admin API, which defaults to 10 seconds
+         * @param timeout the timeout
+         * @param unit the unit of the timeout
+         * @return this Builder for further customizations
+         */
+        public Builder connectTimeout(long timeout, TimeUnit unit) {
+            this.connectTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the timeout for reading a response from the admin API, which defaults to 10 seconds
+         * @param timeout the timeout
+         * @param unit the unit of the timeout
+         * @return this Builder for further customizations
+         */
+        public Builder readTimeout(long timeout, TimeUnit unit) {
+            this.readTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the timeout for writing a request to the admin API, which defaults to 10 seconds
+         * @param timeout the timeout
+         * @param unit the unit of the timeout
+         * @return this Builder for further customizations
+         */
+        public Builder writeTimeout(long timeout, TimeUnit unit) {
+            this.writeTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the size and keep-alive time of the connection pool, which default to 5 idle connections kept for 5 minutes
+         * @param maxIdleConnections the maximum number of idle connections to keep
+         * @param keepAliveDuration how long to keep an idle connection
+         * @param unit the unit of the keep-alive duration
+         * @return this Builder for further customizations
+         */
+        public Builder connectionPool(int maxIdleConnections, long keepAliveDuration, TimeUnit unit) {
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAliveDurationMillis = unit.toMillis(keepAliveDuration);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent requests to one Hoverfly instance, which defaults to 5
+         * @param maxRequestsPerHost the maximum number of concurrent requests
+         * @return this Builder for further customizations
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Records the time, body sizes and failures of the calls to the admin API, tagged by endpoint
+         * @param metrics the metrics to record into
+         * @return this Builder for further customizations
+         */
+        public Builder metrics(HoverflyMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Builds the client. Clients built with the same connection settings share their connection pool and threads,
+         * whichever Hoverfly instance they connect to.
+         * @return the client
+         */
         public HoverflyClient build() {
-            return new OkHttpHoverflyClient(scheme, host, port, authToken);
+            final OkHttpClientSettings settings = new OkHttpClientSettings(connectTimeoutMillis, readTimeoutMillis,
+                    writeTimeoutMillis, maxIdleConnections, keepAliveDurationMillis, maxRequestsPerHost);
+            return new OkHttpHoverflyClient(scheme, host, port, authToken, settings, metrics);
         }
     }
 
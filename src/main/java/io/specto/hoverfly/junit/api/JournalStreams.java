@@ -0,0 +1,98 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Creates streams of journal entries that are fetched from Hoverfly one page at a time
+ */
+final class JournalStreams {
+
+    private JournalStreams() {
+    }
+
+    /**
+     * Streams the entries of the pages returned by the page loader, which is given the offset of each page
+     */
+    static Stream<JournalEntry> paged(IntFunction<Journal> pageLoader, int pageSize) {
+        checkPageSize(pageSize);
+        final PagedJournalIterator iterator = new PagedJournalIterator(pageLoader, pageSize);
+        return stream(iterator, () -> { });
+    }
+
+    static <T extends Iterator<JournalEntry> & Closeable> Stream<JournalEntry> of(T iterator) {
+        return stream(iterator, () -> {
+            try {
+                iterator.close();
+            } catch (IOException e) {
+                throw new HoverflyClientException("Failed to close journal stream: " + e.getMessage());
+            }
+        });
+    }
+
+    static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero.");
+        }
+    }
+
+    /**
+     * Whether the page is the last one of the journal, given the number of entries it had and the total of the journal
+     */
+    static boolean isLastPage(int offset, int entryCount, int pageSize, int total) {
+        // Older versions of Hoverfly do not return the total
+        return entryCount < pageSize || (total > 0 && offset + entryCount >= total);
+    }
+
+    private static Stream<JournalEntry> stream(Iterator<JournalEntry> iterator, Runnable closeHandler) {
+        final Spliterator<JournalEntry> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(closeHandler);
+    }
+
+    private static class PagedJournalIterator implements Iterator<JournalEntry> {
+
+        private final IntFunction<Journal> pageLoader;
+        private final int pageSize;
+        private Iterator<JournalEntry> page = Collections.emptyIterator();
+        private int offset;
+        private boolean lastPage;
+
+        private PagedJournalIterator(IntFunction<Journal> pageLoader, int pageSize) {
+            this.pageLoader = pageLoader;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage) {
+                final Journal journal = pageLoader.apply(offset);
+                final List<JournalEntry> entries = journal == null || journal.getEntries() == null
+                        ? Collections.emptyList() : journal.getEntries();
+                lastPage = isLastPage(offset, entries.size(), pageSize, journal == null ? 0 : journal.getTotal());
+                offset += entries.size();
+                page = entries.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public JournalEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+}
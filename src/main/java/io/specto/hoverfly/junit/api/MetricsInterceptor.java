@@ -0,0 +1,126 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+import okio.Sink;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+import static io.specto.hoverfly.junit.core.metrics.HoverflyMetrics.ADMIN_ERRORS;
+import static io.specto.hoverfly.junit.core.metrics.HoverflyMetrics.ADMIN_REQUEST;
+import static io.specto.hoverfly.junit.core.metrics.HoverflyMetrics.ADMIN_REQUEST_SIZE;
+import static io.specto.hoverfly.junit.core.metrics.HoverflyMetrics.ADMIN_RESPONSE_SIZE;
+
+/**
+ * Records the time, body sizes and failures of calls to the admin API. The time is measured until the response headers
+ * are received, as responses such as the journal may be streamed. Response sizes are only recorded when Hoverfly sends
+ * a content length.
+ */
+class MetricsInterceptor implements Interceptor {
+
+    private final HoverflyMetrics metrics;
+
+    MetricsInterceptor(HoverflyMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        final String endpoint = request.url().encodedPath().substring(1);
+        final String method = request.method();
+
+        final RequestBody body = request.body();
+        if (body != null) {
+            final long contentLength = body.contentLength();
+            if (contentLength >= 0) {
+                metrics.recordSize(ADMIN_REQUEST_SIZE, contentLength, "endpoint", endpoint, "method", method);
+            } else {
+                // Streamed bodies, such as simulations read from a file, are counted as they are written
+                request = request.newBuilder()
+                        .method(method, new CountingRequestBody(body,
+                                bytes -> metrics.recordSize(ADMIN_REQUEST_SIZE, bytes, "endpoint", endpoint, "method", method)))
+                        .build();
+            }
+        }
+
+        final long start = System.nanoTime();
+        final Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            metrics.recordTime(ADMIN_REQUEST, elapsedSince(start), "endpoint", endpoint, "method", method, "status", "IO_ERROR");
+            metrics.incrementCounter(ADMIN_ERRORS, "endpoint", endpoint, "method", method, "error", e.getClass().getSimpleName());
+            throw e;
+        }
+
+        final String status = String.valueOf(response.code());
+        metrics.recordTime(ADMIN_REQUEST, elapsedSince(start), "endpoint", endpoint, "method", method, "status", status);
+        if (!response.isSuccessful()) {
+            metrics.incrementCounter(ADMIN_ERRORS, "endpoint", endpoint, "method", method, "error", status);
+        }
+        if (response.body() != null && response.body().contentLength() >= 0) {
+            metrics.recordSize(ADMIN_RESPONSE_SIZE, response.body().contentLength(), "endpoint", endpoint, "method", method);
+        }
+        return response;
+    }
+
+    private static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    private static class CountingRequestBody extends RequestBody {
+
+        private final RequestBody delegate;
+        private final LongConsumer sizeConsumer;
+
+        private CountingRequestBody(RequestBody delegate, LongConsumer sizeConsumer) {
+            this.delegate = delegate;
+            this.sizeConsumer = sizeConsumer;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            final CountingSink countingSink = new CountingSink(sink);
+            final BufferedSink bufferedSink = Okio.buffer(countingSink);
+            delegate.writeTo(bufferedSink);
+            bufferedSink.emit();
+            sizeConsumer.accept(countingSink.byteCount);
+        }
+    }
+
+    private static class CountingSink extends ForwardingSink {
+
+        private long byteCount;
+
+        private CountingSink(Sink delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void write(Buffer source, long byteCount) throws IOException {
+            super.write(source, byteCount);
+            this.byteCount += byteCount;
+        }
+    }
+}
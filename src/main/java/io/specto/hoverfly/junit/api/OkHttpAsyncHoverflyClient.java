@@ -0,0 +1,186 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.specto.hoverfly.junit.api.command.ModeCommand;
+import io.specto.hoverfly.junit.api.model.ModeArguments;
+import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static io.specto.hoverfly.junit.api.AdminRequestFactory.OBJECT_MAPPER;
+
+/**
+ * An {@link AsyncHoverflyClient} that queues the calls on the dispatcher of the same {@link OkHttpClient} as the
+ * blocking {@link OkHttpHoverflyClient}
+ */
+class OkHttpAsyncHoverflyClient implements AsyncHoverflyClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyClient.class);
+
+    private final OkHttpClient client;
+    private final AdminRequestFactory requests;
+
+    OkHttpAsyncHoverflyClient(OkHttpClient client, AdminRequestFactory requests) {
+        this.client = client;
+        this.requests = requests;
+    }
+
+    @Override
+    public CompletableFuture<Void> setSimulation(Simulation simulation) {
+        try {
+            return exchange(requests.setSimulation(simulation), "Failed to set simulation");
+        } catch (JsonProcessingException e) {
+            return failed("Failed to set simulation", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> setSimulation(SimulationSource simulationSource) {
+        return exchange(requests.setSimulation(simulationSource), "Failed to set simulation");
+    }
+
+    @Override
+    public CompletableFuture<Simulation> getSimulation() {
+        return exchange(requests.getSimulation(), Simulation.class, "Failed to get simulation");
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSimulation() {
+        return exchange(requests.deleteSimulation(), "Failed to delete simulation");
+    }
+
+    @Override
+    public CompletableFuture<Journal> getJournal(int offset, int limit) {
+        return exchange(requests.getJournal(offset, limit, null), Journal.class, "Failed to get journal");
+    }
+
+    @Override
+    public CompletableFuture<Journal> searchJournal(io.specto.hoverfly.junit.core.model.Request requestMatcher) {
+        try {
+            return exchange(requests.searchJournal(requestMatcher), Journal.class, "Failed to search journal");
+        } catch (JsonProcessingException e) {
+            return failed("Failed to search journal", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteJournal() {
+        return exchange(requests.deleteJournal(), "Failed to delete journal");
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteState() {
+        return exchange(requests.deleteState(), "Failed to delete states");
+    }
+
+    @Override
+    public CompletableFuture<Void> cleanDiffs() {
+        return exchange(requests.deleteDiffs(), "Failed to delete diffs");
+    }
+
+    @Override
+    public CompletableFuture<Void> setDestination(String destination) {
+        try {
+            return exchange(requests.setDestination(destination), "Failed to set destination");
+        } catch (JsonProcessingException e) {
+            return failed("Failed to set destination", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> setMode(HoverflyMode mode) {
+        return putModeRequest(new ModeCommand(mode));
+    }
+
+    @Override
+    public CompletableFuture<Void> setMode(HoverflyMode mode, ModeArguments modeArguments) {
+        return putModeRequest(new ModeCommand(mode, modeArguments));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getHealth() {
+        return send(requests.getHealth(), response -> true).exceptionally(e -> {
+            LOGGER.debug("Hoverfly healthcheck failed: " + e.getMessage());
+            return false;
+        });
+    }
+
+    private CompletableFuture<Void> putModeRequest(ModeCommand modeCommand) {
+        try {
+            return exchange(requests.setMode(modeCommand), "Failed to set mode");
+        } catch (JsonProcessingException e) {
+            return failed("Failed to set mode", e);
+        }
+    }
+
+    private CompletableFuture<Void> exchange(Request request, String failureMessage) {
+        return exchange(request, failureMessage, response -> null);
+    }
+
+    private <T> CompletableFuture<T> exchange(Request request, Class<T> clazz, String failureMessage) {
+        return exchange(request, failureMessage, response -> OBJECT_MAPPER.readValue(response.body().string(), clazz));
+    }
+
+    // Completes with a HoverflyClientException on failure, like the blocking client throws
+    private <T> CompletableFuture<T> exchange(Request request, String failureMessage, ResponseReader<T> reader) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        send(request, reader).whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+            } else if (e instanceof AdminRequestFactory.SimulationSourceException) {
+                // The simulation source could not be read
+                result.completeExceptionally(e.getCause());
+            } else {
+                LOGGER.warn("{}: {}", failureMessage, e.getMessage());
+                result.completeExceptionally(new HoverflyClientException(failureMessage + ": " + e.getMessage()));
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> send(Request request, ResponseReader<T> reader) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response closeable = response) {
+                    if (!closeable.isSuccessful()) {
+                        throw new IOException(String.format("Unexpected response (code=%d, message=%s)", closeable.code(), closeable.body().string()));
+                    }
+                    future.complete(reader.read(closeable));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> failed(String failureMessage, Exception e) {
+        LOGGER.warn("{}: {}", failureMessage, e.getMessage());
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(new HoverflyClientException(failureMessage + ": " + e.getMessage()));
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(Response response) throws IOException;
+    }
+}
@@ -0,0 +1,81 @@
+package io.specto.hoverfly.junit.api;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection settings of the {@link OkHttpClient} used for the admin API. Admin clients with the same settings share one
+ * {@link OkHttpClient}, and therefore its connection pool and dispatcher threads.
+ */
+final class OkHttpClientSettings {
+
+    // Same as the OkHttp defaults
+    static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    static final OkHttpClientSettings DEFAULT = new OkHttpClientSettings(DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS,
+            DEFAULT_TIMEOUT_MILLIS, DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE_DURATION_MILLIS, DEFAULT_MAX_REQUESTS_PER_HOST);
+
+    private final long connectTimeoutMillis;
+    private final long readTimeoutMillis;
+    private final long writeTimeoutMillis;
+    private final int maxIdleConnections;
+    private final long keepAliveDurationMillis;
+    private final int maxRequestsPerHost;
+
+    OkHttpClientSettings(long connectTimeoutMillis, long readTimeoutMillis, long writeTimeoutMillis,
+                         int maxIdleConnections, long keepAliveDurationMillis, int maxRequestsPerHost) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveDurationMillis = keepAliveDurationMillis;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    OkHttpClient createClient() {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        // The admin API only speaks HTTP/1.1, so keep-alive connections are reused rather than multiplexed
+        return new OkHttpClient.Builder()
+                .protocols(Collections.singletonList(Protocol.HTTP_1_1))
+                .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveDurationMillis, TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final OkHttpClientSettings that = (OkHttpClientSettings) obj;
+        return connectTimeoutMillis == that.connectTimeoutMillis
+                && readTimeoutMillis == that.readTimeoutMillis
+                && writeTimeoutMillis == that.writeTimeoutMillis
+                && maxIdleConnections == that.maxIdleConnections
+                && keepAliveDurationMillis == that.keepAliveDurationMillis
+                && maxRequestsPerHost == that.maxRequestsPerHost;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(connectTimeoutMillis, readTimeoutMillis, writeTimeoutMillis, maxIdleConnections,
+                keepAliveDurationMillis, maxRequestsPerHost);
+    }
+}
@@ -1,13 +1,11 @@
 package io.specto.hoverfly.junit.api;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import io.specto.hoverfly.junit.api.command.DestinationCommand;
-import io.specto.hoverfly.junit.api.command.JournalSearchCommand;
 import io.specto.hoverfly.junit.api.command.ModeCommand;
 import io.specto.hoverfly.junit.api.command.SortParams;
 import io.specto.hoverfly.junit.api.model.ModeArguments;
@@ -15,58 +13,76 @@ import io.specto.hoverfly.junit.api.view.DiffView;
 import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.api.view.StateView;
 import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
 import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
 import io.specto.hoverfly.junit.core.model.Simulation;
 import okhttp3.HttpUrl;
-import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static io.specto.hoverfly.junit.api.AdminRequestFactory.OBJECT_MAPPER;
+
 class OkHttpHoverflyClient implements HoverflyClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyClient.class);
 
-    private static final String HEALTH_CHECK_PATH = "api/health";
-    private static final String SIMULATION_PATH = "api/v2/simulation";
-    private static final String INFO_PATH = "api/v2/hoverfly";
-    private static final String DESTINATION_PATH = "api/v2/hoverfly/destination";
-    private static final String MODE_PATH = "api/v2/hoverfly/mode";
-    private static final String JOURNAL_PATH = "api/v2/journal";
-    private static final String STATE_PATH = "api/v2/state";
-    private static final String DIFF_PATH = "api/v2/diff";
-
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final MediaType JSON = MediaType.parse("application/json");
+    // Clients with the same settings share a connection pool and dispatcher
+    private static final Map<OkHttpClientSettings, OkHttpClient> SHARED_CLIENTS = new ConcurrentHashMap<>();
 
     private OkHttpClient client;
 
-    private HttpUrl baseUrl;
+    private AdminRequestFactory requests;
+
+    private final AsyncHoverflyClient asyncClient;
 
     OkHttpHoverflyClient(String scheme, String host, int port, String authToken) {
-        OBJECT_MAPPER.registerModule(new JavaTimeModule());
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
-        if (authToken != null ) {
-            clientBuilder.addInterceptor(new AuthHeaderInterceptor(authToken));
+        this(scheme, host, port, authToken, OkHttpClientSettings.DEFAULT);
+    }
+
+    OkHttpHoverflyClient(String scheme, String host, int port, String authToken, OkHttpClientSettings settings) {
+        this(scheme, host, port, authToken, settings, HoverflyMetrics.NOOP);
+    }
+
+    OkHttpHoverflyClient(String scheme, String host, int port, String authToken, OkHttpClientSettings settings,
+                         HoverflyMetrics metrics) {
+        final OkHttpClient sharedClient = SHARED_CLIENTS.computeIfAbsent(settings, OkHttpClientSettings::createClient);
+        if (authToken != null || metrics != HoverflyMetrics.NOOP) {
+            // Derived clients still share the connection pool and dispatcher
+            final OkHttpClient.Builder builder = sharedClient.newBuilder();
+            if (authToken != null) {
+                builder.addInterceptor(new AuthHeaderInterceptor(authToken));
+            }
+            if (metrics != HoverflyMetrics.NOOP) {
+                builder.addInterceptor(new MetricsInterceptor(metrics));
+            }
+            this.client = builder.build();
+        } else {
+            this.client = sharedClient;
         }
-        this.client = clientBuilder.build();
-        this.baseUrl = new HttpUrl.Builder()
+        this.requests = new AdminRequestFactory(new HttpUrl.Builder()
                 .scheme(scheme)
                 .host(host)
                 .port(port)
-                .build();
+                .build());
+        this.asyncClient = new OkHttpAsyncHoverflyClient(client, requests);
+    }
+
+    /**
+     * Gets a client that queues the calls on the same connection pool instead of blocking
+     */
+    AsyncHoverflyClient async() {
+        return asyncClient;
     }
 
     @Override
     public void setSimulation(Simulation simulation) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final RequestBody body = createRequestBody(simulation);
-            final Request request = builder.put(body).build();
-            exchange(request);
+            exchange(requests.setSimulation(simulation));
         } catch (Exception e) {
             LOGGER.warn("Failed to set simulation: {}", e.getMessage());
             throw new HoverflyClientException("Failed to set simulation: " + e.getMessage());
@@ -76,10 +92,20 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void setSimulation(String simulation) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final RequestBody body = RequestBody.create(JSON, simulation);
-            final Request request = builder.put(body).build();
-            exchange(request);
+            exchange(requests.setSimulation(simulation));
+        } catch (Exception e) {
+            LOGGER.warn("Failed to set simulation: {}", e.getMessage());
+            throw new HoverflyClientException("Failed to set simulation: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void setSimulation(SimulationSource simulationSource) {
+        try {
+            exchange(requests.setSimulation(simulationSource));
+        } catch (AdminRequestFactory.SimulationSourceException e) {
+            // The simulation source could not be read
+            throw e.getCause();
         } catch (Exception e) {
             LOGGER.warn("Failed to set simulation: {}", e.getMessage());
             throw new HoverflyClientException("Failed to set simulation: " + e.getMessage());
@@ -89,9 +115,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public Simulation getSimulation() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final Request request = builder.get().build();
-            return exchange(request, Simulation.class);
+            return exchange(requests.getSimulation(), Simulation.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to get simulation: {}", e.getMessage());
             throw new HoverflyClientException("Failed to get simulation: " + e.getMessage());
@@ -101,9 +125,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public JsonNode getSimulationJson() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final Request request = builder.get().build();
-            try (Response response = client.newCall(request).execute()) {
+            try (Response response = client.newCall(requests.getSimulation()).execute()) {
                 onFailure(response);
                 return OBJECT_MAPPER.readTree(response.body().string());
             }
@@ -116,9 +138,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void deleteSimulation() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(SIMULATION_PATH);
-            final Request request = builder.delete().build();
-            exchange(request);
+            exchange(requests.deleteSimulation());
         } catch (Exception e) {
             LOGGER.warn("Failed to delete simulation: {}", e.getMessage());
             throw new HoverflyClientException("Failed to delete simulation: " + e.getMessage());
@@ -138,10 +158,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public Journal searchJournal(io.specto.hoverfly.junit.core.model.Request requestMatcher) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(JOURNAL_PATH);
-            final RequestBody body = createRequestBody(new JournalSearchCommand(requestMatcher));
-            final Request request = builder.post(body).build();
-            return exchange(request, Journal.class);
+            return exchange(requests.searchJournal(requestMatcher), Journal.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to search journal: {}", e.getMessage());
             throw new HoverflyClientException("Failed to search journal: " + e.getMessage());
@@ -152,9 +169,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void deleteJournal() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(JOURNAL_PATH);
-            final Request request = builder.delete().build();
-            exchange(request);
+            exchange(requests.deleteJournal());
         } catch (Exception e) {
             LOGGER.warn("Failed to delete journal: {}", e.getMessage());
             throw new HoverflyClientException("Failed to delete journal: " + e.getMessage());
@@ -164,9 +179,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void deleteState() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(STATE_PATH);
-            final Request request = builder.delete().build();
-            exchange(request);
+            exchange(requests.deleteState());
         } catch (Exception e) {
             LOGGER.warn("Failed to delete states: {}", e.getMessage());
             throw new HoverflyClientException("Failed to delete states: " + e.getMessage());
@@ -176,9 +189,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public StateView getState() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(STATE_PATH);
-            final Request request = builder.get().build();
-            return exchange(request, StateView.class);
+            return exchange(requests.getState(), StateView.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to get state: {}", e.getMessage());
             throw new HoverflyClientException("Failed to get state: " + e.getMessage());
@@ -188,9 +199,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public DiffView getDiffs() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(DIFF_PATH);
-            final Request request = builder.get().build();
-            return exchange(request, DiffView.class);
+            return exchange(requests.getDiffs(), DiffView.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to get diffs: {}", e.getMessage());
             throw new HoverflyClientException("Failed to get diffs: " + e.getMessage());
@@ -200,10 +209,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void setState(final StateView stateView) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(STATE_PATH);
-            final RequestBody body = createRequestBody(stateView);
-            final Request request = builder.put(body).build();
-            exchange(request);
+            exchange(requests.setState(stateView));
         } catch (Exception e) {
             LOGGER.warn("Failed to set states: {}", e.getMessage());
             throw new HoverflyClientException("Failed to set states: " + e.getMessage());
@@ -213,10 +219,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void updateState(final StateView stateView) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(STATE_PATH);
-            final RequestBody body = createRequestBody(stateView);
-            final Request request = builder.patch(body).build();
-            exchange(request);
+            exchange(requests.updateState(stateView));
         } catch (Exception e) {
             LOGGER.warn("Failed to update states: {}", e.getMessage());
             throw new HoverflyClientException("Failed to update states: " + e.getMessage());
@@ -226,9 +229,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void cleanDiffs() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(DIFF_PATH);
-            final Request request = builder.delete().build();
-            exchange(request);
+            exchange(requests.deleteDiffs());
         } catch (Exception e) {
             LOGGER.warn("Failed to delete diffs: {}", e.getMessage());
             throw new HoverflyClientException("Failed to delete diffs: " + e.getMessage());
@@ -238,9 +239,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public HoverflyInfoView getConfigInfo() {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(INFO_PATH);
-            final Request request = builder.get().build();
-            return exchange(request, HoverflyInfoView.class);
+            return exchange(requests.getConfigInfo(), HoverflyInfoView.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to get config information: {}", e.getMessage());
             throw new HoverflyClientException("Failed to get config information: " + e.getMessage());
@@ -250,11 +249,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     @Override
     public void setDestination(String destination) {
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(DESTINATION_PATH);
-            final RequestBody body = createRequestBody(new DestinationCommand(destination));
-            final Request request = builder.put(body).build();
-
-            exchange(request);
+            exchange(requests.setDestination(destination));
         } catch (Exception e) {
             LOGGER.warn("Failed to set destination: {}", e.getMessage());
             throw new HoverflyClientException("Failed to set destination: " + e.getMessage());
@@ -275,9 +270,7 @@ class OkHttpHoverflyClient implements HoverflyClient {
     public boolean getHealth() {
         boolean isHealthy = false;
         try {
-            final Request.Builder builder = createRequestBuilderWithUrl(HEALTH_CHECK_PATH);
-            final Request request = builder.get().build();
-            exchange(request);
+            exchange(requests.getHealth());
             isHealthy = true;
         } catch (Exception e) {
             LOGGER.debug("Hoverfly healthcheck failed: " + e.getMessage());
@@ -285,20 +278,15 @@ class OkHttpHoverflyClient implements HoverflyClient {
         return isHealthy;
     }
 
+    @Override
+    public Stream<JournalEntry> streamJournal(int pageSize, SortParams sortParams) {
+        JournalStreams.checkPageSize(pageSize);
+        return JournalStreams.of(new StreamingJournalIterator(client, offset -> requests.createJournalUrl(offset, pageSize, sortParams), pageSize));
+    }
+
     private Journal getJournalInternal(int offset, int limit, SortParams sortParams) {
         try {
-            HttpUrl.Builder urlBuilder = baseUrl.newBuilder()
-                    .addPathSegments(JOURNAL_PATH)
-                    .addQueryParameter("offset", String.valueOf(offset))
-                    .addQueryParameter("limit", String.valueOf(limit));
-
-            if (sortParams != null) {
-                urlBuilder.addQueryParameter("sort", sortParams.toString());
-            }
-            final Request.Builder builder = new Request.Builder()
-                    .url(urlBuilder.build());
-            final Request request = builder.get().build();
-            return exchange(request, Journal.class);
+            return exchange(requests.getJournal(offset, limit, sortParams), Journal.class);
         } catch (Exception e) {
             LOGGER.warn("Failed to get journal: {}", e.getMessage());
             throw new HoverflyClientException("Failed to get journal: " + e.getMessage());
@@ -307,31 +295,13 @@ class OkHttpHoverflyClient implements HoverflyClient {
 
     private void putModeRequest(ModeCommand modeCommand) {
         try {
-            final RequestBody body = createRequestBody(modeCommand);
-            final Request.Builder builder = createRequestBuilderWithUrl(MODE_PATH);
-            final Request request = builder.put(body).build();
-
-            exchange(request);
+            exchange(requests.setMode(modeCommand));
         } catch (IOException e) {
             LOGGER.warn("Failed to set mode: {}", e.getMessage());
             throw new HoverflyClientException("Failed to set mode: " + e.getMessage());
         }
     }
 
-    // Create request builder from Admin API path
-    private Request.Builder createRequestBuilderWithUrl(String path) {
-        return new Request.Builder()
-                .url(baseUrl.newBuilder().addPathSegments(path).build());
-    }
-
-
-    // Convert object to JSON request body
-    private RequestBody createRequestBody(Object data) throws JsonProcessingException {
-        String content = OBJECT_MAPPER.writeValueAsString(data);
-        return RequestBody.create(JSON, content);
-    }
-
-
     // Deserialize response body on success
     private <T> T exchange(Request request, Class<T> clazz) throws IOException {
         try (Response response = client.newCall(request).execute()) {
@@ -0,0 +1,230 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
+
+import static io.specto.hoverfly.junit.api.AdminRequestFactory.OBJECT_MAPPER;
+
+/**
+ * Iterates over the journal one page at a time. Entries are parsed one by one from the response as they are consumed,
+ * and the next page is requested as soon as a page is opened, so that it is on its way while the current page is read.
+ * At most two pages are in flight, whatever the size of the journal.
+ */
+class StreamingJournalIterator implements Iterator<JournalEntry>, Closeable {
+
+    private final OkHttpClient client;
+    private final IntFunction<HttpUrl> pageUrl;
+    private final int pageSize;
+
+    private Page currentPage;
+    private PendingPage nextPage;
+    private int nextPageOffset;
+    private int knownTotal;
+    private JournalEntry nextEntry;
+    private boolean finished;
+
+    StreamingJournalIterator(OkHttpClient client, IntFunction<HttpUrl> pageUrl, int pageSize) {
+        this.client = client;
+        this.pageUrl = pageUrl;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextEntry != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            while (nextEntry == null) {
+                if (currentPage == null) {
+                    openNextPage();
+                }
+                nextEntry = currentPage.nextEntry();
+                if (nextEntry == null) {
+                    final Page page = currentPage;
+                    page.close();
+                    currentPage = null;
+                    knownTotal = page.total;
+                    if (JournalStreams.isLastPage(page.offset, page.entryCount, pageSize, page.total)) {
+                        close();
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            close();
+            throw new HoverflyClientException("Failed to get journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public JournalEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final JournalEntry entry = nextEntry;
+        nextEntry = null;
+        return entry;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (currentPage != null) {
+            currentPage.close();
+            currentPage = null;
+        }
+        if (nextPage != null) {
+            nextPage.cancel();
+            nextPage = null;
+        }
+    }
+
+    private void openNextPage() throws IOException {
+        if (nextPage == null) {
+            // The first page, or a page that was not prefetched as the journal has grown
+            nextPage = fetch(nextPageOffset);
+        }
+        final int offset = nextPageOffset;
+        currentPage = new Page(nextPage.await(), offset);
+        nextPageOffset = offset + pageSize;
+        nextPage = knownTotal > 0 && nextPageOffset >= knownTotal ? null : fetch(nextPageOffset);
+    }
+
+    private PendingPage fetch(int offset) {
+        final Call call = client.newCall(new Request.Builder().url(pageUrl.apply(offset)).get().build());
+        final PendingPage pendingPage = new PendingPage(call);
+        call.enqueue(pendingPage);
+        return pendingPage;
+    }
+
+    private static class PendingPage implements Callback {
+
+        private final Call call;
+        private final CompletableFuture<Response> response = new CompletableFuture<>();
+
+        private PendingPage(Call call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            response.completeExceptionally(e);
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+            if (!this.response.complete(response)) {
+                response.close();
+            }
+        }
+
+        Response await() throws IOException {
+            try {
+                return response.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new InterruptedIOException("Interrupted while waiting for the journal");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
+        void cancel() {
+            call.cancel();
+            response.cancel(false);
+            response.thenAccept(Response::close);
+        }
+    }
+
+    /**
+     * A page of the journal that is parsed as it is read
+     */
+    private static class Page implements Closeable {
+
+        private final Response response;
+        private final JsonParser parser;
+        private final int offset;
+        private int entryCount;
+        private int total;
+        private boolean inEntries;
+        private boolean done;
+
+        private Page(Response response, int offset) throws IOException {
+            this.response = response;
+            this.offset = offset;
+            try {
+                if (!response.isSuccessful()) {
+                    throw new IOException(String.format("Unexpected response (code=%d, message=%s)", response.code(), response.body().string()));
+                }
+                this.parser = OBJECT_MAPPER.getFactory().createParser(response.body().byteStream());
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Unexpected journal content");
+                }
+            } catch (IOException e) {
+                response.close();
+                throw e;
+            }
+        }
+
+        JournalEntry nextEntry() throws IOException {
+            while (!done) {
+                if (inEntries) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        entryCount++;
+                        return OBJECT_MAPPER.readValue(parser, JournalEntry.class);
+                    }
+                    inEntries = false;
+                }
+                readFieldsUntilEntries();
+            }
+            return null;
+        }
+
+        // Reads the fields around the entries, stopping at the start of the entries or at the end of the journal
+        private void readFieldsUntilEntries() throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken value = parser.nextToken();
+                if ("journal".equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    inEntries = true;
+                    return;
+                } else if ("total".equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+                    total = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            done = true;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.LogOverflowPolicy;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.specto.hoverfly.junit.core.metrics.HoverflyMetrics.LOG_DROPPED;
+
+/**
+ * An {@code OutputStream} that buffers the Hoverfly process output line by line, and writes it to a delegate on a
+ * separate thread, so that a slow logger does not stop Hoverfly from writing its output. When the buffer is full, lines
+ * are dropped or the writer waits according to the {@link LogOverflowPolicy}. Lines written after the stream is closed
+ * are dropped, as the writer thread is stopping.
+ */
+class AsyncLoggingOutputStream extends OutputStream {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLoggingOutputStream.class);
+
+    static final int SAMPLE_RATE = 10;
+
+    private static final byte[] DEBUG_LEVEL = "\"level\":\"debug\"".getBytes(StandardCharsets.UTF_8);
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final OutputStream delegate;
+    private final BlockingQueue<byte[]> lines;
+    private final LogOverflowPolicy overflowPolicy;
+    private final HoverflyMetrics metrics;
+    private final AtomicLong droppedLines = new AtomicLong();
+    private final Thread writer;
+    // The incomplete line, guarded by this stream
+    private byte[] buffer = new byte[1024];
+    private int count;
+    private long overflowedLines;
+    private volatile boolean closed;
+
+    AsyncLoggingOutputStream(OutputStream delegate, int capacity, LogOverflowPolicy overflowPolicy, HoverflyMetrics metrics) {
+        this.delegate = delegate;
+        this.lines = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.metrics = metrics;
+        this.writer = new Thread(this::writeLines, "hoverfly-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        ensureCapacity(1);
+        buffer[count++] = (byte) b;
+        if (b == '\n') {
+            enqueueLine();
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        int start = off;
+        final int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                append(b, start, i + 1 - start);
+                enqueueLine();
+                start = i + 1;
+            }
+        }
+        append(b, start, end - start);
+    }
+
+    /**
+     * Writes any incomplete line, and waits for the buffered lines to be written before stopping the writer thread
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (count > 0) {
+                write('\n');
+            }
+            closed = true;
+        }
+        // Waits without holding the lock, so that output written meanwhile is dropped rather than blocked
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            LOGGER.warn("Timeout when waiting for the Hoverfly log output to be written.");
+            writer.interrupt();
+        }
+        if (droppedLines.get() > 0) {
+            LOGGER.warn("Dropped {} lines of Hoverfly log output because the logger could not keep up.", droppedLines.get());
+        }
+    }
+
+    long getDroppedLines() {
+        return droppedLines.get();
+    }
+
+    private void append(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(int len) {
+        if (count + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + len));
+        }
+    }
+
+    private void enqueueLine() throws IOException {
+        final byte[] line = Arrays.copyOf(buffer, count);
+        count = 0;
+
+        if (closed) {
+            droppedLines.incrementAndGet();
+            return;
+        }
+        if (lines.offer(line)) {
+            return;
+        }
+        if (overflowPolicy == LogOverflowPolicy.DROP_DEBUG && isDebug(line)
+                || overflowPolicy == LogOverflowPolicy.SAMPLE && ++overflowedLines % SAMPLE_RATE != 0) {
+            droppedLines.incrementAndGet();
+            metrics.incrementCounter(LOG_DROPPED, "policy", overflowPolicy.name());
+            return;
+        }
+        try {
+            lines.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to log Hoverfly output");
+        }
+    }
+
+    private void writeLines() {
+        try {
+            while (!closed || !lines.isEmpty()) {
+                final byte[] line = lines.poll(100, TimeUnit.MILLISECONDS);
+                if (line != null) {
+                    writeLine(line);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLine(byte[] line) {
+        try {
+            delegate.write(line, 0, line.length);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write Hoverfly log output: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isDebug(byte[] line) {
+        outer:
+        for (int i = 0; i <= line.length - DEBUG_LEVEL.length; i++) {
+            for (int j = 0; j < DEBUG_LEVEL.length; j++) {
+                if (line[i + j] != DEBUG_LEVEL[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,98 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.AsyncHoverflyClient;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.verification.HoverflyVerificationError;
+import io.specto.hoverfly.junit.verification.VerificationCriteria;
+import io.specto.hoverfly.junit.verification.VerificationData;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Verifies many requests against the journal, searching the journal for several requests at a time. Searches are
+ * evaluated in the order of the requests, and all the failed verifications are reported in one {@link HoverflyVerificationError}.
+ */
+class BatchVerifier {
+
+    // Also bounds how many journal search results are held in memory at a time
+    static final int MAX_CONCURRENT_SEARCHES = 16;
+
+    private final AsyncHoverflyClient hoverflyClient;
+    private final int maxConcurrentSearches;
+
+    BatchVerifier(AsyncHoverflyClient hoverflyClient) {
+        this(hoverflyClient, MAX_CONCURRENT_SEARCHES);
+    }
+
+    BatchVerifier(AsyncHoverflyClient hoverflyClient, int maxConcurrentSearches) {
+        this.hoverflyClient = hoverflyClient;
+        this.maxConcurrentSearches = maxConcurrentSearches;
+    }
+
+    void verify(Collection<Request> requests, VerificationCriteria criteria) {
+        final List<String> failures = new ArrayList<>();
+        final Deque<PendingSearch> pendingSearches = new ArrayDeque<>(maxConcurrentSearches);
+
+        for (Request request : requests) {
+            if (pendingSearches.size() >= maxConcurrentSearches) {
+                evaluate(pendingSearches.poll(), criteria, failures);
+            }
+            pendingSearches.add(new PendingSearch(request, hoverflyClient.searchJournal(request)));
+        }
+        while (!pendingSearches.isEmpty()) {
+            evaluate(pendingSearches.poll(), criteria, failures);
+        }
+
+        if (failures.size() == 1) {
+            throw new HoverflyVerificationError(failures.get(0));
+        } else if (failures.size() > 1) {
+            throw new HoverflyVerificationError(aggregate(failures, requests.size()));
+        }
+    }
+
+    private static void evaluate(PendingSearch pendingSearch, VerificationCriteria criteria, List<String> failures) {
+        final Journal journal;
+        try {
+            journal = pendingSearch.journal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+
+        try {
+            criteria.verify(pendingSearch.request, new VerificationData(journal));
+        } catch (HoverflyVerificationError e) {
+            failures.add(e.getMessage());
+        }
+    }
+
+    private static String aggregate(List<String> failures, int verificationCount) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(failures.size()).append(" of ").append(verificationCount).append(" verifications failed:");
+        for (int i = 0; i < failures.size(); i++) {
+            sb.append(System.lineSeparator()).append(System.lineSeparator())
+                    .append(i + 1).append(") ").append(failures.get(i));
+        }
+        return sb.toString();
+    }
+
+    private static class PendingSearch {
+
+        private final Request request;
+        private final CompletableFuture<Journal> journal;
+
+        private PendingSearch(Request request, CompletableFuture<Journal> journal) {
+            this.request = request;
+            this.journal = journal;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link SimulationSource} that reads the simulation from a {@link SimulationCache}, so that its source is only read
+ * when the simulation is not cached
+ */
+class CachedSimulationSource implements SimulationSource {
+
+    private final SimulationSource delegate;
+    private final SimulationCache cache;
+
+    CachedSimulationSource(SimulationSource delegate, SimulationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getSimulation() {
+        return StandardCharsets.UTF_8.decode(cache.get(delegate)).toString();
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        write(cache.get(delegate), channel);
+    }
+
+    /**
+     * The length is unknown, as the content may be evicted and read again between getting its length and writing it.
+     * Use {@link #snapshot()} to get both from the same content.
+     */
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    /**
+     * Gets the content from the cache once, so that everything read from the returned source describes the same bytes
+     */
+    SimulationSource snapshot() {
+        return new Snapshot(cache.get(delegate));
+    }
+
+    private static void write(ByteBuffer content, WritableByteChannel channel) throws IOException {
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    private static class Snapshot implements SimulationSource {
+
+        private final ByteBuffer content;
+
+        private Snapshot(ByteBuffer content) {
+            this.content = content;
+        }
+
+        @Override
+        public String getSimulation() {
+            return StandardCharsets.UTF_8.decode(content.duplicate()).toString();
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            write(content.duplicate(), channel);
+        }
+
+        @Override
+        public long contentLength() {
+            return content.remaining();
+        }
+    }
+}
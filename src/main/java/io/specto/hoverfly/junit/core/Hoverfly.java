@@ -12,29 +12,38 @@
  */
 package io.specto.hoverfly.junit.core;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import io.specto.hoverfly.junit.api.AsyncHoverflyClient;
 import io.specto.hoverfly.junit.api.HoverflyClient;
 import io.specto.hoverfly.junit.api.HoverflyClientException;
 import io.specto.hoverfly.junit.api.model.ModeArguments;
@@ -42,12 +51,17 @@ import io.specto.hoverfly.junit.api.view.DiffView;
 import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.api.view.StateView;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
 import io.specto.hoverfly.junit.core.model.Journal;
 import io.specto.hoverfly.junit.core.model.Request;
 import io.specto.hoverfly.junit.core.model.RequestResponsePair;
 import io.specto.hoverfly.junit.core.model.Simulation;
 import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
 import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import io.specto.hoverfly.junit.embedded.EmbeddedHoverflyClient;
+import io.specto.hoverfly.junit.embedded.EmbeddedHoverflyServer;
+import io.specto.hoverfly.junit.verification.JournalSnapshot;
+import io.specto.hoverfly.junit.verification.JournalStatistics;
 import io.specto.hoverfly.junit.verification.VerificationCriteria;
 import io.specto.hoverfly.junit.verification.VerificationData;
 import org.apache.commons.lang3.StringUtils;
@@ -61,7 +75,6 @@ import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
 import static io.specto.hoverfly.junit.core.HoverflyMode.DIFF;
 import static io.specto.hoverfly.junit.core.HoverflyUtils.checkPortInUse;
-import static io.specto.hoverfly.junit.core.HoverflyUtils.readSimulationFromString;
 import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.any;
 import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
 import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
@@ -75,8 +88,16 @@ public class Hoverfly implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Hoverfly.class);
     private static final ObjectWriter JSON_PRETTY_PRINTER = new ObjectMapper().writerWithDefaultPrettyPrinter();
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().writer();
     private static final int BOOT_TIMEOUT_SECONDS = 10;
-    private static final int RETRY_BACKOFF_INTERVAL_MS = 100;
+    private static final int INITIAL_RETRY_BACKOFF_MS = 5;
+    private static final int MAX_RETRY_BACKOFF_MS = 100;
+    private static final int PORT_PROBE_TIMEOUT_MS = 50;
+    private static final ExecutorService STARTUP_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "hoverfly-startup");
+        thread.setDaemon(true);
+        return thread;
+    });
 
 
     private final HoverflyConfiguration hoverflyConfig;
@@ -84,9 +105,21 @@ public class Hoverfly implements AutoCloseable {
     private final ProxyConfigurer proxyConfigurer;
     private final SslConfigurer sslConfigurer = new SslConfigurer();
     private final HoverflyClient hoverflyClient;
+    private final HoverflyMetrics metrics;
 
     private final TempFileManager tempFileManager = new TempFileManager();
+    private final List<JournalTailer> journalTailers = new CopyOnWriteArrayList<>();
     private StartedProcess startedProcess;
+    private ReadinessOutputStream readinessOutputStream;
+    private AsyncLoggingOutputStream asyncLoggingOutputStream;
+    private HoverflyClients clients;
+    private EmbeddedHoverflyServer embeddedServer;
+    private volatile CompletableFuture<Hoverfly> startFuture;
+    // Digests of the sources of the last imported simulation, and of that simulation as exported from Hoverfly
+    private volatile String simulationFingerprint;
+    private volatile String exportedSimulationFingerprint;
+    private boolean startAwaited;
+    private Duration bootDuration;
 
     // Visible for testing
     Thread shutdownThread = null;
@@ -100,12 +133,21 @@ public class Hoverfly implements AutoCloseable {
     public Hoverfly(HoverflyConfig hoverflyConfigBuilder, HoverflyMode hoverflyMode) {
         hoverflyConfig = hoverflyConfigBuilder.build();
         this.proxyConfigurer = new ProxyConfigurer(hoverflyConfig);
-        this.hoverflyClient = HoverflyClient.custom()
-                .scheme(hoverflyConfig.getScheme())
-                .host(hoverflyConfig.getHost())
-                .port(hoverflyConfig.getAdminPort())
-                .withAuthToken()
-                .build();
+        this.metrics = hoverflyConfig.getMetrics();
+        if (hoverflyConfig.isEmbedded()) {
+            if (hoverflyMode != HoverflyMode.SIMULATE) {
+                throw new IllegalArgumentException("Embedded Hoverfly only supports simulate mode.");
+            }
+            this.hoverflyClient = new EmbeddedHoverflyClient();
+        } else {
+            this.hoverflyClient = HoverflyClient.custom()
+                    .scheme(hoverflyConfig.getScheme())
+                    .host(hoverflyConfig.getHost())
+                    .port(hoverflyConfig.getAdminPort())
+                    .withAuthToken()
+                    .metrics(metrics)
+                    .build();
+        }
         this.hoverflyMode = hoverflyMode;
 
     }
@@ -125,8 +167,35 @@ public class Hoverfly implements AutoCloseable {
      * <li>Sets the proxy system properties to route through Hoverfly</li>
      * <li>Starts Hoverfly</li>
      * </ol>
+     * If {@link #startAsync()} has already been called, this waits for that startup to complete.
      */
     public void start() {
+        final CompletableFuture<Hoverfly> future;
+        synchronized (this) {
+            future = startFuture != null && !startAwaited ? startFuture : startAsync();
+            startAwaited = true;
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Failed to start Hoverfly", e.getCause());
+        }
+    }
+
+    /**
+     * Starts Hoverfly in the background, and builds the SSL context while the Hoverfly process is booting.
+     * The trust store and proxy system properties are only changed once Hoverfly is healthy.
+     * @return a future that completes with this instance once it is ready to use
+     */
+    public synchronized CompletableFuture<Hoverfly> startAsync() {
+        if (startFuture != null && !startFuture.isDone()) {
+            return startFuture;
+        }
 
         // Register a shutdown hook to invoke Hoverfly cleanup
         shutdownThread = new Thread(this::close);
@@ -134,10 +203,27 @@ public class Hoverfly implements AutoCloseable {
 
         if (startedProcess != null) {
             LOGGER.warn("Local Hoverfly is already running.");
-            return;
+            return CompletableFuture.completedFuture(this);
         }
 
-        if (!hoverflyConfig.isRemoteInstance()) {
+        startAwaited = false;
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<Void> sslContextPrepared = CompletableFuture.runAsync(this::prepareSslContext, STARTUP_EXECUTOR);
+        startFuture = CompletableFuture.runAsync(this::boot, STARTUP_EXECUTOR)
+                .thenCombine(sslContextPrepared, (booted, prepared) -> {
+                    setDefaultSslContext();
+                    proxyConfigurer.setProxySystemProperties();
+                    metrics.recordTime(HoverflyMetrics.START, elapsedSince(startNanos));
+                    return this;
+                });
+        return startFuture;
+    }
+
+    private void boot() {
+        if (hoverflyConfig.isEmbedded()) {
+            checkPortInUse(hoverflyConfig.getProxyPort());
+            embeddedServer = EmbeddedHoverflyServer.start((EmbeddedHoverflyClient) hoverflyClient, hoverflyConfig.getProxyPort());
+        } else if (!hoverflyConfig.isRemoteInstance()) {
             startHoverflyProcess();
         } else {
             resetJournal();
@@ -150,16 +236,38 @@ public class Hoverfly implements AutoCloseable {
         if (StringUtils.isNotBlank(hoverflyConfig.getDestination())) {
             setDestination(hoverflyConfig.getDestination());
         }
+    }
 
+    private void prepareSslContext() {
         if (hoverflyConfig.getProxyCaCertificate().isPresent()) {
+            sslConfigurer.prepareSslContext(hoverflyConfig.getProxyCaCertificate().get());
+        } else if (StringUtils.isNotBlank(hoverflyConfig.getSslCertificatePath())) {
+            sslConfigurer.prepareSslContext(hoverflyConfig.getSslCertificatePath());
+        } else {
+            sslConfigurer.prepareSslContext();
+        }
+    }
+
+    private void setDefaultSslContext() {
+        if (hoverflyConfig.isScopedClients()) {
+            setScopedSslContext();
+        } else if (hoverflyConfig.getProxyCaCertificate().isPresent()) {
           sslConfigurer.setDefaultSslContext(hoverflyConfig.getProxyCaCertificate().get());
         } else if (StringUtils.isNotBlank(hoverflyConfig.getSslCertificatePath())) {
             sslConfigurer.setDefaultSslContext(hoverflyConfig.getSslCertificatePath());
         } else {
             sslConfigurer.setDefaultSslContext();
         }
+    }
 
-        proxyConfigurer.setProxySystemProperties();
+    private void setScopedSslContext() {
+        if (hoverflyConfig.getProxyCaCertificate().isPresent()) {
+            sslConfigurer.setSslContext(hoverflyConfig.getProxyCaCertificate().get());
+        } else if (StringUtils.isNotBlank(hoverflyConfig.getSslCertificatePath())) {
+            sslConfigurer.setSslContext(hoverflyConfig.getSslCertificatePath());
+        } else {
+            sslConfigurer.setSslContext();
+        }
     }
 
     private void startHoverflyProcess() {
@@ -171,7 +279,9 @@ public class Hoverfly implements AutoCloseable {
         if (hoverflyConfig.getBinaryLocation() != null) {
             tempFileManager.setBinaryLocation(hoverflyConfig.getBinaryLocation());
         }
+        final long copyStartNanos = System.nanoTime();
         Path binaryPath = tempFileManager.copyHoverflyBinary(systemConfig);
+        metrics.recordTime(HoverflyMetrics.BINARY_COPY, elapsedSince(copyStartNanos));
 
         LOGGER.info("Executing binary at {}", binaryPath);
         final List<String> commands = new ArrayList<>();
@@ -230,10 +340,17 @@ public class Hoverfly implements AutoCloseable {
             commands.add(hoverflyConfig.getUpstreamProxy());
         }
 
+        OutputStream logOutputStream = hoverflyConfig.getHoverflyLogger().<OutputStream>map(LoggingOutputStream::new).orElse(System.out);
+        if (hoverflyConfig.isAsyncLogging()) {
+            asyncLoggingOutputStream = new AsyncLoggingOutputStream(logOutputStream, hoverflyConfig.getAsyncLogBufferSize(),
+                    hoverflyConfig.getLogOverflowPolicy(), metrics);
+            logOutputStream = asyncLoggingOutputStream;
+        }
+        readinessOutputStream = new ReadinessOutputStream(logOutputStream);
         try {
             startedProcess = new ProcessExecutor()
                     .command(commands)
-                    .redirectOutput(hoverflyConfig.getHoverflyLogger().<OutputStream>map(LoggingOutputStream::new).orElse(System.out))
+                    .redirectOutput(readinessOutputStream)
                     .directory(tempFileManager.getTempDirectory().toFile())
                     .start();
         } catch (IOException e) {
@@ -261,27 +378,68 @@ public class Hoverfly implements AutoCloseable {
     }
 
 
+    /**
+     * Imports a simulation into {@link Hoverfly} from one or more {@link SimulationSource}s, merging them in order.
+     * When all the sources are {@link SimulationSource#cached(SimulationSource) cached}, the import is skipped if they
+     * have the same content as those of the last import, as Hoverfly already has the simulation. Use
+     * {@link HoverflyConfig#verifySkippedImports()} to also check that the simulation in Hoverfly was not changed in between.
+     *
+     * @param simulationSource the simulation to import
+     * @param sources more simulations to merge into it
+     */
     public void simulate(SimulationSource simulationSource, SimulationSource... sources) {
-        LOGGER.info("Importing simulation data to Hoverfly");
+        final long startNanos = System.nanoTime();
+        try {
+            // Only cached sources are fingerprinted, as other sources would be read once more for the fingerprint. Their
+            // content is taken once, so that the fingerprint describes the content that is imported.
+            final boolean cached = isCached(simulationSource) && Arrays.stream(sources).allMatch(Hoverfly::isCached);
+            final SimulationSource source = cached ? snapshot(simulationSource) : simulationSource;
+            final SimulationSource[] moreSources = cached
+                    ? Arrays.stream(sources).map(Hoverfly::snapshot).toArray(SimulationSource[]::new) : sources;
+            final String fingerprint = cached ? SimulationFingerprint.of(source, moreSources) : null;
+            if (fingerprint != null && fingerprint.equals(simulationFingerprint) && isSimulationUnchanged()) {
+                LOGGER.debug("Skipping import of simulation data that Hoverfly already has");
+                metrics.incrementCounter(HoverflyMetrics.SIMULATE_SKIPPED);
+                return;
+            }
+            LOGGER.info("Importing simulation data to Hoverfly");
+            simulationFingerprint = null;
+            setSimulation(source, moreSources);
+            if (fingerprint != null && hoverflyConfig.isVerifySkippedImports()) {
+                exportedSimulationFingerprint = SimulationFingerprint.of(hoverflyClient.getSimulationJson());
+            }
+            simulationFingerprint = fingerprint;
+        } finally {
+            metrics.recordTime(HoverflyMetrics.SIMULATE, elapsedSince(startNanos));
+        }
+    }
 
-        Optional<SimulationPreprocessor> simulationPreprocessor = hoverflyConfig.getSimulationPreprocessor();
+    private static boolean isCached(SimulationSource source) {
+        return source instanceof CachedSimulationSource;
+    }
+
+    private static SimulationSource snapshot(SimulationSource source) {
+        return ((CachedSimulationSource) source).snapshot();
+    }
+
+    private boolean isSimulationUnchanged() {
+        return !hoverflyConfig.isVerifySkippedImports()
+                || SimulationFingerprint.of(hoverflyClient.getSimulationJson()).equals(exportedSimulationFingerprint);
+    }
 
-        if (sources.length > 0 || simulationPreprocessor.isPresent()) {
-            final Simulation simulation = readSimulationFromString(simulationSource.getSimulation());
+    private void setSimulation(SimulationSource simulationSource, SimulationSource... sources) {
+        Optional<SimulationPreprocessor> simulationPreprocessor = hoverflyConfig.getSimulationPreprocessor();
 
-            Stream.of(sources).map(SimulationSource::getSimulation)
-                    .map(HoverflyUtils::readSimulationFromString)
-                    .forEach(s -> {
-                        simulation.getHoverflyData().getPairs().addAll(s.getHoverflyData().getPairs());
-                        simulation.getHoverflyData().getGlobalActions().getDelays().addAll(s.getHoverflyData().getGlobalActions().getDelays());
-                    });
+        if (simulationPreprocessor.isPresent()) {
+            final Simulation simulation = SimulationMerger.mergeToSimulation(simulationSource, sources);
 
-            simulationPreprocessor.ifPresent(p -> p.accept(simulation));
+            simulationPreprocessor.get().accept(simulation);
 
             hoverflyClient.setSimulation(simulation);
+        } else if (sources.length > 0) {
+            hoverflyClient.setSimulation(SimulationMerger.merge(simulationSource, sources));
         } else {
-            final String simulation = simulationSource.getSimulation();
-            hoverflyClient.setSimulation(simulation);
+            hoverflyClient.setSimulation(simulationSource);
         }
     }
 
@@ -289,10 +447,16 @@ public class Hoverfly implements AutoCloseable {
      * Delete existing simulations and journals
      */
     public void reset() {
-        hoverflyClient.deleteSimulation();
-
-        resetJournal();
-        resetState();
+        final long startNanos = System.nanoTime();
+        simulationFingerprint = null;
+        final CompletableFuture<Void> journalReset = resetJournalAsync();
+        final CompletableFuture<Void> stateReset = resetStateAsync();
+        try {
+            hoverflyClient.deleteSimulation();
+        } finally {
+            CompletableFuture.allOf(journalReset, stateReset).join();
+            metrics.recordTime(HoverflyMetrics.RESET, elapsedSince(startNanos));
+        }
     }
 
 
@@ -307,6 +471,41 @@ public class Hoverfly implements AutoCloseable {
         }
     }
 
+    /**
+     * Deletes journal logs without waiting for Hoverfly to respond, so that other calls can be made meanwhile
+     *
+     * @return a future that completes once the journal is deleted, or the deletion has failed and been logged
+     */
+    public CompletableFuture<Void> resetJournalAsync() {
+        return AsyncHoverflyClient.from(hoverflyClient).deleteJournal().exceptionally(e -> {
+            LOGGER.warn("Older version of Hoverfly may not have a reset journal API", e);
+            return null;
+        });
+    }
+
+    /**
+     * Tails the journal, passing the new entries to the listener as they are added. Each poll only fetches the entries
+     * added since the previous one. The tailer is closed with Hoverfly, or can be closed earlier to stop tailing.
+     *
+     * @param listener the listener of the new entries
+     * @return the running tailer
+     */
+    public JournalTailer tailJournal(JournalListener listener) {
+        return tailJournal(JournalTailer.custom().listener(listener));
+    }
+
+    /**
+     * Tails the journal with a custom poll interval, page size or listener queue
+     *
+     * @param journalTailer the configuration of the tailer
+     * @return the running tailer
+     */
+    public JournalTailer tailJournal(JournalTailer.Builder journalTailer) {
+        final JournalTailer tailer = journalTailer.start(hoverflyClient, journalTailers::remove);
+        journalTailers.add(tailer);
+        return tailer;
+    }
+
     /**
      * Deletes all state from Hoverfly
      */
@@ -318,6 +517,18 @@ public class Hoverfly implements AutoCloseable {
         }
     }
 
+    /**
+     * Deletes all state from Hoverfly without waiting for Hoverfly to respond
+     *
+     * @return a future that completes once the state is deleted, or the deletion has failed and been logged
+     */
+    public CompletableFuture<Void> resetStateAsync() {
+        return AsyncHoverflyClient.from(hoverflyClient).deleteState().exceptionally(e -> {
+            LOGGER.warn("Older version of Hoverfly may not have a delete state API", e);
+            return null;
+        });
+    }
+
     /**
      * Get all state from Hoverfly
      *
@@ -374,7 +585,8 @@ public class Hoverfly implements AutoCloseable {
     }
 
     /**
-     * Exports a simulation and stores it on the filesystem at the given path
+     * Exports a simulation and stores it on the filesystem at the given path. The simulation is compressed if the path
+     * ends with the file extension of a {@link SimulationCodec}, such as {@code .gz}.
      *
      * @param path the path on the filesystem to where the simulation should be stored
      */
@@ -425,6 +637,9 @@ public class Hoverfly implements AutoCloseable {
      * @param mode hoverfly mode to change
      */
     public void setMode(HoverflyMode mode) {
+        if (mode == CAPTURE) {
+            simulationFingerprint = null;
+        }
         hoverflyClient.setMode(mode);
     }
 
@@ -456,10 +671,31 @@ public class Hoverfly implements AutoCloseable {
         return hoverflyClient.getHealth();
     }
 
+    /**
+     * Gets the time it took for Hoverfly to become healthy after the last start
+     * @return the boot duration, or empty if Hoverfly has not been started
+     */
+    public Optional<Duration> getBootDuration() {
+        return Optional.ofNullable(bootDuration);
+    }
+
     public SslConfigurer getSslConfigurer() {
         return sslConfigurer;
     }
 
+    /**
+     * Gets the proxy selector, SSL socket factory and HTTP clients configured to send requests through this instance.
+     * This is how to use Hoverfly when it is configured with {@link HoverflyConfig#scopedClients()}, as the JVM proxy
+     * settings and trust store are then left untouched.
+     * @return the clients for this instance, once it has been started
+     */
+    public synchronized HoverflyClients getClients() {
+        if (clients == null) {
+            clients = new HoverflyClients(hoverflyConfig, sslConfigurer);
+        }
+        return clients;
+    }
+
     public void verify(RequestMatcherBuilder requestMatcher, VerificationCriteria criteria) {
         verifyRequest(requestMatcher.build(), criteria);
     }
@@ -487,22 +723,90 @@ public class Hoverfly implements AutoCloseable {
     }
 
 
+    /**
+     * Verifies the requests that match each of the request matchers against the criteria. The journal is searched for
+     * several request matchers at a time, and all the failed verifications are reported together.
+     *
+     * @param requestMatchers the request matchers to verify
+     * @param criteria the criteria that the requests matching each request matcher must meet
+     */
+    public void verify(Collection<RequestMatcherBuilder> requestMatchers, VerificationCriteria criteria) {
+        final List<Request> requests = requestMatchers.stream()
+                .map(RequestMatcherBuilder::build)
+                .collect(Collectors.toList());
+        timeVerification(() -> new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient)).verify(requests, criteria));
+    }
+
     public void verifyAll() {
         Simulation simulation = hoverflyClient.getSimulation();
-        simulation.getHoverflyData().getPairs().stream()
+        final List<Request> requests = simulation.getHoverflyData().getPairs().stream()
                 .map(RequestResponsePair::getRequest)
-                .forEach(request -> verifyRequest(request, atLeastOnce()));
+                .collect(Collectors.toList());
+        timeVerification(() -> new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient)).verify(requests, atLeastOnce()));
+    }
+
+    /**
+     * Takes a copy of the journal, so that many requests can be verified in the JVM without searching the journal in
+     * Hoverfly for each of them
+     * @return the journal snapshot
+     */
+    public JournalSnapshot snapshotJournal() {
+        return JournalSnapshot.fetch(hoverflyClient);
+    }
+
+    /**
+     * Gets the latency percentiles and throughput of the requests in the journal, grouped by destination, method and
+     * path template. The journal is streamed, so it does not need to fit in memory.
+     * @return the journal statistics
+     */
+    public JournalStatistics getJournalStatistics() {
+        return JournalStatistics.fetch(hoverflyClient);
     }
 
     private void verifyRequest(Request request, VerificationCriteria criteria) {
-        Journal journal = hoverflyClient.searchJournal(request);
+        timeVerification(() -> {
+            Journal journal = hoverflyClient.searchJournal(request);
+
+            criteria.verify(request, new VerificationData(journal));
+        });
+    }
+
+    private void timeVerification(Runnable verification) {
+        final long startNanos = System.nanoTime();
+        String outcome = "failure";
+        try {
+            verification.run();
+            outcome = "success";
+        } finally {
+            metrics.recordTime(HoverflyMetrics.VERIFY, elapsedSince(startNanos), "outcome", outcome);
+        }
+    }
+
+    private static Duration elapsedSince(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+
+    // Used by HoverflyPool to hand over the JVM proxy settings between leases
+    void setProxySystemProperties() {
+        proxyConfigurer.setProxySystemProperties();
+    }
+
+    void restoreProxySystemProperties() {
+        proxyConfigurer.restoreProxySystemProperties();
+    }
 
-        criteria.verify(request, new VerificationData(journal));
+    // Used by HoverflyPool so that the tailers of a lease do not receive the journal of the next one
+    void closeJournalTailers() {
+        journalTailers.forEach(JournalTailer::close);
+        journalTailers.clear();
     }
 
     private void persistSimulation(Path path, Simulation simulation) throws IOException {
         Files.createDirectories(path.getParent());
-        JSON_PRETTY_PRINTER.writeValue(path.toFile(), simulation);
+        final ObjectWriter writer = hoverflyConfig.isCompactSimulationExport() ? JSON_WRITER : JSON_PRETTY_PRINTER;
+        try (OutputStream outputStream = SimulationCodecs.encode(path, new BufferedOutputStream(Files.newOutputStream(path)))) {
+            writer.writeValue(outputStream, simulation);
+        }
     }
 
 
@@ -510,22 +814,69 @@ public class Hoverfly implements AutoCloseable {
      * Blocks until the Hoverfly process becomes healthy, otherwise time out
      */
     private void waitForHoverflyToBecomeHealthy() {
-        final Instant now = Instant.now();
+        final Instant start = Instant.now();
+        long backoffMs = INITIAL_RETRY_BACKOFF_MS;
 
-        while (Duration.between(now, Instant.now()).getSeconds() < BOOT_TIMEOUT_SECONDS) {
-            if (hoverflyClient.getHealth()) return;
+        while (Duration.between(start, Instant.now()).getSeconds() < BOOT_TIMEOUT_SECONDS) {
             try {
-                // TODO: prefer executors and tasks to threads
-                Thread.sleep(RETRY_BACKOFF_INTERVAL_MS);
+                if (isReady(backoffMs)) {
+                    bootDuration = Duration.between(start, Instant.now());
+                    LOGGER.info("Hoverfly became healthy in {} ms", bootDuration.toMillis());
+                    metrics.recordTime(HoverflyMetrics.BOOT, bootDuration);
+                    return;
+                }
             } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Hoverfly to become healthy", e);
             }
+            backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
         }
         throw new IllegalStateException("Hoverfly has not become healthy in " + BOOT_TIMEOUT_SECONDS + " seconds");
     }
 
+    /**
+     * A local instance is ready once it logs that it is listening, or failing that, once its ports accept connections.
+     * The health endpoint is then called once to confirm. A remote instance can only be checked through the health endpoint.
+     */
+    private boolean isReady(long backoffMs) throws InterruptedException {
+        if (startedProcess == null || readinessOutputStream == null) {
+            if (hoverflyClient.getHealth()) {
+                return true;
+            }
+            Thread.sleep(backoffMs);
+            return false;
+        }
+
+        if (!startedProcess.getProcess().isAlive()) {
+            throw new IllegalStateException("Hoverfly process exited with code " + startedProcess.getProcess().exitValue());
+        }
+
+        final boolean signalled = readinessOutputStream.isReady();
+        if (signalled || readinessOutputStream.awaitReady(backoffMs, TimeUnit.MILLISECONDS)
+                || (isListening(hoverflyConfig.getAdminPort()) && isListening(hoverflyConfig.getProxyPort()))) {
+            if (hoverflyClient.getHealth()) {
+                return true;
+            }
+            if (signalled) {
+                Thread.sleep(backoffMs);
+            }
+        }
+        return false;
+    }
+
+    private boolean isListening(int port) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(hoverflyConfig.getHost(), port), PORT_PROBE_TIMEOUT_MS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     private void setModeWithArguments(HoverflyMode mode, HoverflyConfiguration config) {
         if (mode == CAPTURE) {
+            // Captured requests are added to the simulation
+            simulationFingerprint = null;
             hoverflyClient.setMode(mode, new ModeArguments(config.getCaptureHeaders(), config.isStatefulCapture()));
         } else if (mode == DIFF) {
             hoverflyClient.setMode(mode, new ModeArguments(config.getCaptureHeaders()));
@@ -537,6 +888,8 @@ public class Hoverfly implements AutoCloseable {
     private void cleanUp() {
         LOGGER.info("Destroying hoverfly process");
 
+        closeJournalTailers();
+
         if (startedProcess != null) {
             Process process = startedProcess.getProcess();
             process.destroy();
@@ -553,10 +906,26 @@ public class Hoverfly implements AutoCloseable {
             }
             executorService.shutdownNow();
             startedProcess = null;
+            readinessOutputStream = null;
+        }
+        if (embeddedServer != null) {
+            embeddedServer.close();
+            embeddedServer = null;
         }
+        if (asyncLoggingOutputStream != null) {
+            try {
+                asyncLoggingOutputStream.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close the Hoverfly log output: {}", e.getMessage());
+            }
+            asyncLoggingOutputStream = null;
+        }
+        startFuture = null;
 
         proxyConfigurer.restoreProxySystemProperties();
-        sslConfigurer.reset();
+        if (!hoverflyConfig.isScopedClients()) {
+            sslConfigurer.reset();
+        }
         tempFileManager.purge();
 
 
@@ -0,0 +1,188 @@
+package io.specto.hoverfly.junit.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_EXECUTE;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.util.Arrays.asList;
+
+/**
+ * A persistent cache of extracted Hoverfly binaries, shared by all JVMs on the machine.
+ *
+ * Binaries are stored in a directory named after the SHA-256 of their content. A binary is extracted once into a temporary
+ * file, verified and then published with an atomic rename, while a file lock keeps concurrent JVMs from extracting the same binary.
+ * The cache location defaults to {@code ~/.cache/hoverfly-java} and can be changed with the {@code hoverfly.binary.cacheDir} system property.
+ */
+class HoverflyBinaryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyBinaryCache.class);
+    private static final String CACHE_DIR_PROPERTY = "hoverfly.binary.cacheDir";
+    private static final String LOCK_FILE_NAME = ".lock";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final HoverflyBinaryCache DEFAULT = new HoverflyBinaryCache(defaultCacheRoot());
+
+    // Guards the binary directories within this JVM, keyed by absolute path
+    private static final Map<Path, Object> DIRECTORY_LOCKS = new ConcurrentHashMap<>();
+
+    // Binaries already verified by this instance, keyed by source URL
+    private final Map<String, Path> verifiedBinaries = new ConcurrentHashMap<>();
+    private final Path cacheRoot;
+
+    static HoverflyBinaryCache getDefault() {
+        return DEFAULT;
+    }
+
+    HoverflyBinaryCache(Path cacheRoot) {
+        this.cacheRoot = cacheRoot;
+    }
+
+    /**
+     * Gets the cached copy of the binary, extracting it first if it is not in the cache yet
+     */
+    Path getOrExtract(URL sourceUrl, String binaryName, boolean windows) throws IOException {
+        final String memoKey = sourceUrl.toString();
+        final Path verified = verifiedBinaries.get(memoKey);
+        if (verified != null && Files.isRegularFile(verified)) {
+            return verified;
+        }
+
+        final String checksum;
+        try (InputStream is = sourceUrl.openStream()) {
+            checksum = sha256(is);
+        }
+
+        final Path binaryDirectory = cacheRoot.resolve(checksum);
+        final Path binaryPath = binaryDirectory.resolve(binaryName);
+
+        // File locks are held by the whole JVM, so threads of this JVM must not take the same lock concurrently
+        synchronized (DIRECTORY_LOCKS.computeIfAbsent(binaryDirectory.toAbsolutePath().normalize(), directory -> new Object())) {
+            // Another thread may have extracted it while we were waiting for the lock
+            final Path extracted = verifiedBinaries.get(memoKey);
+            if (extracted != null && Files.isRegularFile(extracted)) {
+                return extracted;
+            }
+
+            if (!isValid(binaryPath, checksum)) {
+                Files.createDirectories(binaryDirectory);
+                try (FileChannel lockChannel = FileChannel.open(binaryDirectory.resolve(LOCK_FILE_NAME), CREATE, WRITE);
+                     FileLock ignored = lockChannel.lock()) {
+                    // Another JVM may have published it while we were waiting for the lock
+                    if (!isValid(binaryPath, checksum)) {
+                        extract(sourceUrl, binaryPath, checksum, windows);
+                    }
+                }
+            }
+
+            verifiedBinaries.put(memoKey, binaryPath);
+            return binaryPath;
+        }
+    }
+
+    Path getCacheRoot() {
+        return cacheRoot;
+    }
+
+    private void extract(URL sourceUrl, Path binaryPath, String checksum, boolean windows) throws IOException {
+        LOGGER.info("Extracting binary to cache directory {}", binaryPath.getParent());
+        final Path tempFile = Files.createTempFile(binaryPath.getParent(), binaryPath.getFileName().toString(), ".tmp");
+        try {
+            final MessageDigest digest = newDigest();
+            try (InputStream is = sourceUrl.openStream(); OutputStream os = Files.newOutputStream(tempFile)) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    os.write(buffer, 0, read);
+                }
+            }
+            if (!checksum.equals(toHex(digest.digest()))) {
+                throw new IOException("Checksum mismatch when extracting " + sourceUrl);
+            }
+
+            if (windows) {
+                tempFile.toFile().setExecutable(true);
+                tempFile.toFile().setReadable(true);
+                tempFile.toFile().setWritable(true);
+            } else {
+                Files.setPosixFilePermissions(tempFile, new HashSet<>(asList(OWNER_EXECUTE, OWNER_READ)));
+            }
+
+            try {
+                Files.move(tempFile, binaryPath, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, binaryPath, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static boolean isValid(Path binaryPath, String checksum) throws IOException {
+        if (!Files.isRegularFile(binaryPath)) {
+            return false;
+        }
+        try (InputStream is = Files.newInputStream(binaryPath)) {
+            if (checksum.equals(sha256(is))) {
+                return true;
+            }
+        }
+        LOGGER.warn("Cached binary {} is corrupted and will be extracted again", binaryPath);
+        return false;
+    }
+
+    private static String sha256(InputStream is) throws IOException {
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static Path defaultCacheRoot() {
+        final String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        if (cacheDir != null && !cacheDir.trim().isEmpty()) {
+            return Paths.get(cacheDir);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "hoverfly-java");
+    }
+}
@@ -0,0 +1,142 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import okhttp3.OkHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.X509TrustManager;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * HTTP clients configured to send requests through one {@link Hoverfly} instance, and trust its certificate, without
+ * relying on the JVM proxy system properties and default SSL context. Requests to the same hosts that are excluded by
+ * the proxy system properties, such as localhost unless {@link HoverflyConfig#proxyLocalHost()} is set, are sent directly.
+ */
+public class HoverflyClients {
+
+    private final HoverflyConfiguration hoverflyConfig;
+    private final SslConfigurer sslConfigurer;
+    private final ProxySelector proxySelector = new HoverflyProxySelector();
+    private OkHttpClient okHttpClient;
+
+    HoverflyClients(HoverflyConfiguration hoverflyConfig, SslConfigurer sslConfigurer) {
+        this.hoverflyConfig = hoverflyConfig;
+        this.sslConfigurer = sslConfigurer;
+    }
+
+    /**
+     * Gets a proxy selector that sends requests through Hoverfly
+     * @return the proxy selector
+     */
+    public ProxySelector getProxySelector() {
+        return proxySelector;
+    }
+
+    /**
+     * Gets an SSL context that trusts the Hoverfly certificate as well as the default JVM trust store
+     * @return the SSL context
+     */
+    public SSLContext getSslContext() {
+        return sslConfigurer.getSslContext();
+    }
+
+    public SSLSocketFactory getSslSocketFactory() {
+        return getSslContext().getSocketFactory();
+    }
+
+    public X509TrustManager getTrustManager() {
+        return sslConfigurer.getTrustManager();
+    }
+
+    /**
+     * Gets an OkHttp client that sends requests through Hoverfly. The same client is returned every time, so that it
+     * can reuse connections.
+     * @return the OkHttp client
+     */
+    public synchronized OkHttpClient getOkHttpClient() {
+        if (okHttpClient == null) {
+            okHttpClient = new OkHttpClient.Builder()
+                    .proxySelector(proxySelector)
+                    .sslSocketFactory(getSslSocketFactory(), getTrustManager())
+                    .build();
+        }
+        return okHttpClient;
+    }
+
+    /**
+     * Creates an Apache HttpClient builder that sends requests through Hoverfly. Apache HttpClient is not a dependency
+     * of hoverfly-java, so it must be on the classpath to use this method.
+     * @return the builder for further customizations
+     */
+    public HttpClientBuilder apacheHttpClientBuilder() {
+        return HttpClients.custom()
+                .setRoutePlanner(new SystemDefaultRoutePlanner(proxySelector))
+                .setSSLContext(getSslContext());
+    }
+
+    /**
+     * Opens a connection to the given URL through Hoverfly
+     * @param url the URL to connect to
+     * @return the connection, which has not connected yet
+     * @throws IOException if the connection cannot be opened
+     */
+    public HttpURLConnection openConnection(URL url) throws IOException {
+        final Proxy proxy;
+        try {
+            proxy = proxySelector.select(url.toURI()).get(0);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid URL: " + url, e);
+        }
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection(proxy);
+        if (connection instanceof HttpsURLConnection) {
+            ((HttpsURLConnection) connection).setSSLSocketFactory(getSslSocketFactory());
+        }
+        return connection;
+    }
+
+    private class HoverflyProxySelector extends ProxySelector {
+
+        @Override
+        public List<Proxy> select(URI uri) {
+            if (uri == null) {
+                throw new IllegalArgumentException("URI cannot be null.");
+            }
+            if (hoverflyConfig.isWebServer() || isNonProxyHost(uri.getHost())) {
+                return Collections.singletonList(Proxy.NO_PROXY);
+            }
+            return Collections.singletonList(new Proxy(Proxy.Type.HTTP,
+                    InetSocketAddress.createUnresolved(hoverflyConfig.getHost(), hoverflyConfig.getProxyPort())));
+        }
+
+        @Override
+        public void connectFailed(URI uri, SocketAddress address, IOException e) {
+            // Nothing to do, as there is no other proxy to use
+        }
+
+        private boolean isNonProxyHost(String host) {
+            if (host == null) {
+                return false;
+            }
+            if (hoverflyConfig.isRemoteInstance() && host.equalsIgnoreCase(hoverflyConfig.getHost())) {
+                return true;
+            }
+            return !hoverflyConfig.isProxyLocalHost()
+                    && (host.equalsIgnoreCase("localhost") || host.startsWith("127.") || host.equals("[::1]") || host.equals("::1"));
+        }
+    }
+}
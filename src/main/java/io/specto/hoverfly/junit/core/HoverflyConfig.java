@@ -16,6 +16,7 @@ package io.specto.hoverfly.junit.core;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
 import io.specto.hoverfly.junit.core.config.LocalHoverflyConfig;
 import io.specto.hoverfly.junit.core.config.RemoteHoverflyConfig;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
 import io.specto.hoverfly.junit.core.model.Simulation;
 
 import java.util.Arrays;
@@ -37,6 +38,10 @@ public abstract class HoverflyConfig {
     protected boolean statefulCapture;
     protected boolean incrementalCapture;
     protected SimulationPreprocessor simulationPreprocessor;
+    protected HoverflyMetrics metrics = HoverflyMetrics.NOOP;
+    protected boolean scopedClients;
+    protected boolean verifySkippedImports;
+    protected boolean compactSimulationExport;
 
     /**
      * New instance
@@ -196,6 +201,50 @@ public abstract class HoverflyConfig {
         return this;
     }
 
+    /**
+     * Records where the time goes when using {@link Hoverfly}, such as starting it, importing simulations and calling
+     * the admin API. Nothing is recorded by default.
+     *
+     * @param metrics the metrics to record into, such as {@link io.specto.hoverfly.junit.core.metrics.MicrometerHoverflyMetrics}
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig metrics(HoverflyMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Leaves the JVM proxy system properties and default SSL context untouched, so that several {@link Hoverfly}
+     * instances can be used in parallel in the same JVM. Use the proxy selector, SSL socket factory and HTTP clients
+     * from {@link Hoverfly#getClients()} to send requests through each instance.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig scopedClients() {
+        this.scopedClients = true;
+        return this;
+    }
+
+    /**
+     * Importing a simulation with the same content as the last import is skipped, as Hoverfly already has it. This
+     * also fetches the simulation from Hoverfly before skipping an import, and imports it again if it was changed in
+     * between, such as by calling the admin API directly.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig verifySkippedImports() {
+        this.verifySkippedImports = true;
+        return this;
+    }
+
+    /**
+     * Exports simulations as compact JSON instead of pretty printing them, which makes large captured simulations
+     * smaller and faster to write and read
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public HoverflyConfig compactSimulationExport() {
+        this.compactSimulationExport = true;
+        return this;
+    }
+
     /**
      * Validate and build {@link HoverflyConfiguration}
      * @return a validated hoverfly configuration object
@@ -0,0 +1,531 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A pool of started {@link Hoverfly} instances that can be shared across test classes.
+ *
+ * Instances are keyed by their configuration and mode. Leasing an instance with the same key hands out an already running
+ * Hoverfly that has been reset with {@link Hoverfly#reset()} instead of booting a new process. Idle instances are stopped
+ * after the idle timeout, and the number of running instances is capped. When a lock directory is set, the cap is shared by
+ * every JVM using the same directory, eg. Gradle test forks.
+ *
+ * The default pool can be customized with the system properties {@code hoverfly.pool.maxInstances},
+ * {@code hoverfly.pool.idleTimeoutSeconds}, {@code hoverfly.pool.leaseTimeoutSeconds} and {@code hoverfly.pool.lockDirectory}.
+ */
+public class HoverflyPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyPool.class);
+
+    private static final int DEFAULT_MAX_INSTANCES = 4;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(2);
+
+    private static HoverflyPool defaultPool;
+
+    private final int maxInstances;
+    private final Duration idleTimeout;
+    private final Duration leaseTimeout;
+    private final ForkSlots forkSlots;
+    private final BiFunction<HoverflyConfig, HoverflyMode, Hoverfly> hoverflyFactory;
+
+    private final Map<PoolKey, Deque<PooledInstance>> idleInstances = new HashMap<>();
+    private final ScheduledExecutorService evictor;
+    private int liveInstances;
+    private boolean closed;
+
+    HoverflyPool(int maxInstances, Duration idleTimeout, Duration leaseTimeout, Path lockDirectory,
+                 BiFunction<HoverflyConfig, HoverflyMode, Hoverfly> hoverflyFactory) {
+        if (maxInstances < 1) {
+            throw new IllegalArgumentException("Hoverfly pool must allow at least one instance.");
+        }
+        this.maxInstances = maxInstances;
+        this.idleTimeout = idleTimeout;
+        this.leaseTimeout = leaseTimeout;
+        this.forkSlots = lockDirectory == null ? null : new ForkSlots(lockDirectory, maxInstances);
+        this.hoverflyFactory = hoverflyFactory;
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hoverfly-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(idleTimeout.toMillis() / 2, 100);
+        this.evictor.scheduleWithFixedDelay(this::evictIdleInstances, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the JVM-wide pool, creating it on first use. It is closed on JVM shutdown.
+     * @return the default pool
+     */
+    public static synchronized HoverflyPool getDefault() {
+        if (defaultPool == null) {
+            String lockDirectory = System.getProperty("hoverfly.pool.lockDirectory");
+            Builder builder = custom()
+                    .maxInstances(Integer.getInteger("hoverfly.pool.maxInstances", DEFAULT_MAX_INSTANCES))
+                    .idleTimeout(Duration.ofSeconds(Long.getLong("hoverfly.pool.idleTimeoutSeconds", DEFAULT_IDLE_TIMEOUT.getSeconds())))
+                    .leaseTimeout(Duration.ofSeconds(Long.getLong("hoverfly.pool.leaseTimeoutSeconds", DEFAULT_LEASE_TIMEOUT.getSeconds())));
+            if (StringUtils.isNotBlank(lockDirectory)) {
+                builder.lockDirectory(Paths.get(lockDirectory));
+            }
+            defaultPool = builder.build();
+            Runtime.getRuntime().addShutdownHook(new Thread(defaultPool::close));
+        }
+        return defaultPool;
+    }
+
+    /**
+     * Creates a builder for a custom pool
+     * @return a new {@link Builder}
+     */
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    /**
+     * Leases a running Hoverfly matching the given configuration and mode, starting a new one if none is idle.
+     * The lease should be closed after use to return the instance to the pool.
+     *
+     * @param hoverflyConfig the config
+     * @param hoverflyMode   the mode
+     * @return the lease of a started Hoverfly
+     */
+    public Lease lease(HoverflyConfig hoverflyConfig, HoverflyMode hoverflyMode) {
+        final PoolKey key = PoolKey.of(hoverflyConfig, hoverflyMode);
+        final Instant deadline = Instant.now().plus(leaseTimeout);
+        Closeable slot = null;
+
+        while (slot == null) {
+            PooledInstance evicted = null;
+            synchronized (this) {
+                while (true) {
+                    checkNotClosed();
+
+                    Deque<PooledInstance> idle = idleInstances.get(key);
+                    if (idle != null && !idle.isEmpty()) {
+                        PooledInstance instance = idle.pollFirst();
+                        LOGGER.debug("Reusing pooled Hoverfly on admin port {}", instance.hoverfly.getHoverflyConfig().getAdminPort());
+                        instance.hoverfly.setProxySystemProperties();
+                        return new Lease(this, instance);
+                    }
+
+                    if (liveInstances < maxInstances) {
+                        slot = tryAcquireForkSlot();
+                        if (slot != null) {
+                            liveInstances++;
+                            break;
+                        }
+                    }
+
+                    evicted = removeOldestIdleInstance();
+                    if (evicted != null) {
+                        break;
+                    }
+
+                    long remaining = Duration.between(Instant.now(), deadline).toMillis();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("Timed out waiting for a pooled Hoverfly instance after " + leaseTimeout.getSeconds() + " seconds");
+                    }
+                    try {
+                        wait(forkSlots == null ? remaining : Math.min(remaining, 200));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a pooled Hoverfly instance", e);
+                    }
+                }
+            }
+            if (evicted != null) {
+                // Stopped without holding the lock, as stopping the process can take a while
+                destroy(evicted);
+            }
+        }
+
+        try {
+            Hoverfly hoverfly = hoverflyFactory.apply(hoverflyConfig, hoverflyMode);
+            hoverfly.start();
+            return new Lease(this, new PooledInstance(key, hoverfly, slot));
+        } catch (RuntimeException e) {
+            discard(slot);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of running instances owned by this pool, both leased and idle
+     * @return the number of instances
+     */
+    public synchronized int size() {
+        return liveInstances;
+    }
+
+    /**
+     * Stops all the idle instances. Leased instances are stopped when they are returned.
+     */
+    @Override
+    public void close() {
+        List<PooledInstance> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idleInstances.values().forEach(toClose::addAll);
+            idleInstances.clear();
+            notifyAll();
+        }
+        evictor.shutdownNow();
+        toClose.forEach(this::destroy);
+    }
+
+    private void release(PooledInstance instance) {
+        Hoverfly hoverfly = instance.hoverfly;
+        try {
+            hoverfly.closeJournalTailers();
+            hoverfly.restoreProxySystemProperties();
+            hoverfly.reset();
+            hoverfly.resetDiffs();
+            hoverfly.resetMode(instance.key.mode);
+            String destination = hoverfly.getHoverflyConfig().getDestination();
+            if (StringUtils.isNotBlank(destination)) {
+                hoverfly.setDestination(destination);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to reset pooled Hoverfly, it will be stopped", e);
+            destroy(instance);
+            return;
+        }
+
+        synchronized (this) {
+            if (!closed) {
+                instance.idleSince = Instant.now();
+                idleInstances.computeIfAbsent(instance.key, k -> new ArrayDeque<>()).addFirst(instance);
+                notifyAll();
+                return;
+            }
+        }
+        destroy(instance);
+    }
+
+    // Visible for testing
+    void evictIdleInstances() {
+        List<PooledInstance> expired = new ArrayList<>();
+        synchronized (this) {
+            Instant threshold = Instant.now().minus(idleTimeout);
+            for (Iterator<Deque<PooledInstance>> it = idleInstances.values().iterator(); it.hasNext(); ) {
+                Deque<PooledInstance> idle = it.next();
+                idle.removeIf(instance -> {
+                    if (instance.idleSince.isBefore(threshold)) {
+                        expired.add(instance);
+                        return true;
+                    }
+                    return false;
+                });
+                if (idle.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+        if (!expired.isEmpty()) {
+            LOGGER.info("Stopping {} idle pooled Hoverfly instance(s)", expired.size());
+            expired.forEach(this::destroy);
+        }
+    }
+
+    // Must hold the lock. Makes room for a new instance by removing the least recently used idle one, which the caller
+    // must destroy after releasing the lock.
+    private PooledInstance removeOldestIdleInstance() {
+        PooledInstance oldest = null;
+        for (Deque<PooledInstance> idle : idleInstances.values()) {
+            PooledInstance candidate = idle.peekLast();
+            if (candidate != null && (oldest == null || candidate.idleSince.isBefore(oldest.idleSince))) {
+                oldest = candidate;
+            }
+        }
+        if (oldest == null) {
+            return null;
+        }
+        Deque<PooledInstance> idle = idleInstances.get(oldest.key);
+        idle.removeLast();
+        if (idle.isEmpty()) {
+            idleInstances.remove(oldest.key);
+        }
+        return oldest;
+    }
+
+    private void destroy(PooledInstance instance) {
+        try {
+            instance.hoverfly.close();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to stop pooled Hoverfly", e);
+        }
+        discard(instance.slot);
+    }
+
+    private void discard(Closeable slot) {
+        closeQuietly(slot);
+        synchronized (this) {
+            liveInstances--;
+            notifyAll();
+        }
+    }
+
+    private Closeable tryAcquireForkSlot() {
+        if (forkSlots == null) {
+            return () -> { };
+        }
+        return forkSlots.tryAcquire();
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("Hoverfly pool has been closed.");
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to release Hoverfly pool lock", e);
+        }
+    }
+
+    /**
+     * A leased {@link Hoverfly} instance. Closing the lease resets the instance and returns it to the pool.
+     */
+    public static class Lease implements AutoCloseable {
+
+        private final HoverflyPool pool;
+        private final PooledInstance instance;
+        private boolean released;
+
+        private Lease(HoverflyPool pool, PooledInstance instance) {
+            this.pool = pool;
+            this.instance = instance;
+        }
+
+        public Hoverfly getHoverfly() {
+            return instance.hoverfly;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                pool.release(instance);
+            }
+        }
+    }
+
+    /**
+     * Builder for a custom {@link HoverflyPool}
+     */
+    public static class Builder {
+
+        private int maxInstances = DEFAULT_MAX_INSTANCES;
+        private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private Duration leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+        private Path lockDirectory;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of running instances
+         * @param maxInstances the maximum number of instances
+         * @return this Builder for further customizations
+         */
+        public Builder maxInstances(int maxInstances) {
+            this.maxInstances = maxInstances;
+            return this;
+        }
+
+        /**
+         * Sets how long an instance can stay idle before it is stopped
+         * @param idleTimeout the idle timeout
+         * @return this Builder for further customizations
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for an instance when the pool is at its maximum size
+         * @param leaseTimeout the lease timeout
+         * @return this Builder for further customizations
+         */
+        public Builder leaseTimeout(Duration leaseTimeout) {
+            this.leaseTimeout = leaseTimeout;
+            return this;
+        }
+
+        /**
+         * Shares the maximum number of instances with other JVMs using the same directory, eg. Gradle test forks
+         * @param lockDirectory the directory for the lock files
+         * @return this Builder for further customizations
+         */
+        public Builder lockDirectory(Path lockDirectory) {
+            this.lockDirectory = lockDirectory;
+            return this;
+        }
+
+        public HoverflyPool build() {
+            return new HoverflyPool(maxInstances, idleTimeout, leaseTimeout, lockDirectory, Hoverfly::new);
+        }
+    }
+
+    private static class PooledInstance {
+        private final PoolKey key;
+        private final Hoverfly hoverfly;
+        private final Closeable slot;
+        private Instant idleSince;
+
+        private PooledInstance(PoolKey key, Hoverfly hoverfly, Closeable slot) {
+            this.key = key;
+            this.hoverfly = hoverfly;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Identifies interchangeable instances. Ports are only part of the key if they are set explicitly. A simulation
+     * preprocessor is compared as an instance, as lambdas and differently configured preprocessors share a class.
+     */
+    private static class PoolKey {
+        private final HoverflyMode mode;
+        private final List<Object> settings;
+
+        private PoolKey(HoverflyMode mode, List<Object> settings) {
+            this.mode = mode;
+            this.settings = settings;
+        }
+
+        static PoolKey of(HoverflyConfig hoverflyConfig, HoverflyMode mode) {
+            int requestedProxyPort = hoverflyConfig.proxyPort;
+            int requestedAdminPort = hoverflyConfig.adminPort;
+            HoverflyConfiguration config = hoverflyConfig.build();
+            return new PoolKey(mode, Arrays.asList(
+                    requestedProxyPort,
+                    requestedAdminPort,
+                    config.isRemoteInstance(),
+                    config.getScheme(),
+                    config.getHost(),
+                    config.isProxyLocalHost(),
+                    config.getDestination(),
+                    config.getSslCertificatePath(),
+                    config.getSslKeyPath(),
+                    config.getAuthToken().orElse(null),
+                    config.getProxyCaCertificate().orElse(null),
+                    config.getCaptureHeaders(),
+                    config.isWebServer(),
+                    config.isTlsVerificationDisabled(),
+                    config.isPlainHttpTunneling(),
+                    config.getUpstreamProxy(),
+                    config.getHoverflyLogger().map(Logger::getName).orElse(null),
+                    config.getLogLevel().orElse(null),
+                    config.getAsyncLogBufferSize(),
+                    config.getLogOverflowPolicy(),
+                    config.isStatefulCapture(),
+                    config.isIncrementalCapture(),
+                    config.getSimulationPreprocessor().orElse(null),
+                    config.isMiddlewareEnabled() ? config.getLocalMiddleware().getBinary() + " " + config.getLocalMiddleware().getPath() : null,
+                    config.getBinaryNameFormat(),
+                    config.getCommands(),
+                    config.getBinaryLocation(),
+                    config.getMetrics(),
+                    config.isScopedClients(),
+                    config.isVerifySkippedImports(),
+                    config.isCompactSimulationExport(),
+                    config.isEmbedded()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PoolKey other = (PoolKey) o;
+            return mode == other.mode && settings.equals(other.settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mode, settings);
+        }
+    }
+
+    /**
+     * Numbered lock files that limit the number of instances across JVMs sharing the same directory
+     */
+    private static class ForkSlots {
+        private final Path directory;
+        private final int slots;
+
+        private ForkSlots(Path directory, int slots) {
+            this.directory = directory;
+            this.slots = slots;
+        }
+
+        Closeable tryAcquire() {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to create Hoverfly pool lock directory " + directory, e);
+            }
+            for (int i = 0; i < slots; i++) {
+                Path lockFile = directory.resolve("hoverfly-" + i + ".lock");
+                FileChannel channel = null;
+                try {
+                    channel = FileChannel.open(lockFile, CREATE, WRITE);
+                    FileLock lock = channel.tryLock();
+                    if (lock != null) {
+                        return channel;
+                    }
+                } catch (OverlappingFileLockException e) {
+                    // Already held by this JVM
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to lock {}", lockFile, e);
+                }
+                closeQuietly(channel);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+
+import java.util.List;
+
+/**
+ * Receives the entries that are added to the journal while it is tailed
+ * @see JournalTailer
+ */
+@FunctionalInterface
+public interface JournalListener {
+
+    /**
+     * Called on the thread of the {@link JournalTailer} with the new entries, in the order they were added to the journal
+     * @param entries the new journal entries
+     */
+    void onEntries(List<JournalEntry> entries);
+}
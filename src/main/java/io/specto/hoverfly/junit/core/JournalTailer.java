@@ -0,0 +1,230 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.command.SortParams;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tails the journal, polling Hoverfly for the entries that were added since the last poll and passing them to the listeners.
+ * <p>
+ * The tailer keeps the offset of the next entry in the journal sorted by time, so each poll only fetches new entries.
+ * Entries are delivered on a separate thread through a bounded queue of batches. When the listeners fall behind and the
+ * queue is full, polling pauses and the entries wait in the journal of Hoverfly until the listeners catch up.
+ * <p>
+ * Each poll fetches the last entry it has seen again, to check that the journal has not changed underneath the offset.
+ * If the journal is reset, or Hoverfly evicts entries from a full journal, tailing starts again from the beginning of the
+ * journal, skipping the entries that did not start after the last entry seen. Entries that Hoverfly evicts before they
+ * are polled are not delivered, nor are new entries that started at the same time as the last entry seen.
+ */
+public class JournalTailer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalTailer.class);
+    static final SortParams JOURNAL_ORDER = new SortParams("timeStarted", SortParams.Direction.ASC);
+
+    private final HoverflyClient hoverflyClient;
+    private final int pageSize;
+    private final List<JournalListener> listeners;
+    private final BlockingQueue<List<JournalEntry>> pendingBatches;
+    private final ScheduledExecutorService executor;
+    private final Consumer<JournalTailer> onClose;
+
+    // Only used by the polling task
+    private int offset;
+    private ZonedDateTime lastTimeStarted;
+    private ZonedDateTime skipUntil;
+
+    private JournalTailer(HoverflyClient hoverflyClient, Builder builder, Consumer<JournalTailer> onClose) {
+        this.hoverflyClient = hoverflyClient;
+        this.onClose = onClose;
+        this.pageSize = builder.pageSize;
+        this.listeners = new CopyOnWriteArrayList<>(builder.listeners);
+        this.pendingBatches = new ArrayBlockingQueue<>(builder.maxPendingBatches);
+        this.executor = Executors.newScheduledThreadPool(2, runnable -> {
+            final Thread thread = new Thread(runnable, "hoverfly-journal-tailer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static Builder custom() {
+        return new Builder();
+    }
+
+    public void addListener(JournalListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(JournalListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stops polling and delivering entries. Entries that were fetched but not delivered yet are discarded.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        onClose.accept(this);
+    }
+
+    public boolean isClosed() {
+        return executor.isShutdown();
+    }
+
+    private JournalTailer start(long pollIntervalMillis) {
+        executor.execute(this::deliver);
+        executor.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    // Fetches pages until there are no new entries, or the listeners are behind
+    void poll() {
+        try {
+            while (pendingBatches.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                final int overlap = offset > 0 ? 1 : 0;
+                final Journal page = hoverflyClient.getJournal(offset - overlap, pageSize + overlap, JOURNAL_ORDER);
+                final List<JournalEntry> entries = page == null || page.getEntries() == null
+                        ? Collections.emptyList() : page.getEntries();
+
+                if (overlap > 0 && (entries.isEmpty() || !Objects.equals(entries.get(0).getTimeStarted(), lastTimeStarted))) {
+                    LOGGER.debug("Journal has been reset, tailing from the beginning");
+                    offset = 0;
+                    skipUntil = lastTimeStarted;
+                    continue;
+                }
+                final List<JournalEntry> newEntries = entries.subList(overlap, entries.size());
+                if (newEntries.isEmpty()) {
+                    return;
+                }
+                offset += newEntries.size();
+                lastTimeStarted = newEntries.get(newEntries.size() - 1).getTimeStarted();
+                final List<JournalEntry> batch = unseen(newEntries);
+                if (!batch.isEmpty()) {
+                    pendingBatches.add(batch);
+                }
+                if (newEntries.size() < pageSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Try again on the next poll
+            LOGGER.warn("Failed to tail journal: {}", e.getMessage());
+        }
+    }
+
+    // After a reset, leaves out the entries that were already delivered before it
+    private List<JournalEntry> unseen(List<JournalEntry> entries) {
+        final List<JournalEntry> batch = new ArrayList<>(entries.size());
+        for (JournalEntry entry : entries) {
+            if (skipUntil != null && entry.getTimeStarted() != null && !entry.getTimeStarted().isAfter(skipUntil)) {
+                continue;
+            }
+            skipUntil = null;
+            batch.add(entry);
+        }
+        return batch;
+    }
+
+    private void deliver() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<JournalEntry> batch = pendingBatches.take();
+                for (JournalListener listener : listeners) {
+                    try {
+                        listener.onEntries(Collections.unmodifiableList(batch));
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Journal listener failed: {}", e.getMessage(), e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class Builder {
+
+        private long pollIntervalMillis = 1000;
+        private int pageSize = 100;
+        private int maxPendingBatches = 16;
+        private final List<JournalListener> listeners = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Sets the delay between the end of a poll and the start of the next one, which defaults to one second
+         * @param interval the delay
+         * @param unit the unit of the delay
+         * @return the builder
+         */
+        public Builder pollInterval(long interval, TimeUnit unit) {
+            this.pollIntervalMillis = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of entries to fetch per request, which defaults to 100
+         * @param pageSize the page size
+         * @return the builder
+         */
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of fetched pages that can wait for the listeners before polling pauses, which defaults to 16
+         * @param maxPendingBatches the maximum number of pages waiting for the listeners
+         * @return the builder
+         */
+        public Builder maxPendingBatches(int maxPendingBatches) {
+            this.maxPendingBatches = maxPendingBatches;
+            return this;
+        }
+
+        public Builder listener(JournalListener listener) {
+            this.listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Starts tailing the journal from its first entry
+         * @param hoverflyClient the client of the Hoverfly to tail
+         * @return the running tailer, which must be closed to stop tailing
+         */
+        public JournalTailer start(HoverflyClient hoverflyClient) {
+            return start(hoverflyClient, tailer -> { });
+        }
+
+        // Lets the owner of the tailer forget it once it is closed
+        JournalTailer start(HoverflyClient hoverflyClient, Consumer<JournalTailer> onClose) {
+            if (pollIntervalMillis <= 0) {
+                throw new IllegalArgumentException("Poll interval must be greater than zero.");
+            }
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("Page size must be greater than zero.");
+            }
+            if (maxPendingBatches <= 0) {
+                throw new IllegalArgumentException("Max pending batches must be greater than zero.");
+            }
+            return new JournalTailer(hoverflyClient, this, onClose).start(pollIntervalMillis);
+        }
+    }
+}
@@ -12,26 +12,33 @@
  */
 package io.specto.hoverfly.junit.core;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.slf4j.Logger;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Map;
-
-import static java.util.stream.Collectors.joining;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * An {@code OutputStream} designed to take in the Hoverfly JSON structured and log it correctly.
+ * <p>
+ * Only the level of each line is read up front. The message and other fields are formatted when the logger outputs the
+ * line, so nothing more is done for lines at a disabled level.
  */
 class LoggingOutputStream extends OutputStream {
 
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream(1000);
-    private final Logger logger;
+    private static final JsonFactory LOG_PARSER = new JsonFactory();
 
-    private static final ObjectMapper LOG_PARSER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final String LEVEL = "level";
+    private static final String MESSAGE = "msg";
+    private static final String TIME = "time";
+
+    private final Logger logger;
+    private byte[] buffer = new byte[1024];
+    private int count;
 
     LoggingOutputStream(final Logger logger) {
         this.logger = logger;
@@ -40,56 +47,164 @@ class LoggingOutputStream extends OutputStream {
     @Override
     public void write(final int b) {
         if (b == '\n') {
-            final String line = stream.toString();
-            stream.reset();
-
-            try {
-                final Map<?, ?> logLine = LOG_PARSER.readValue(line, Map.class);
-                final String message = String.valueOf(logLine.remove("msg"));
-                final String level = String.valueOf(logLine.remove("level"));
-                logLine.remove("time");
-                log(level, message, logLine);
-            } catch (IOException e) {
-                // Unparseable log message so only option is to just log the entire message
-                logger.info(line);
+            onLine();
+        } else {
+            ensureCapacity(1);
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        int start = off;
+        final int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                append(b, start, i - start);
+                onLine();
+                start = i + 1;
             }
+        }
+        append(b, start, end - start);
+    }
 
-        } else {
-            stream.write(b);
+    private void append(final byte[] b, final int off, final int len) {
+        ensureCapacity(len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    private void ensureCapacity(final int len) {
+        if (count + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + len));
         }
     }
 
-    private void log(final String level, final String message, final Map<?, ?> details) {
+    private void onLine() {
+        final int length = count;
+        count = 0;
+
+        final String level;
+        try {
+            level = readLevel(buffer, length);
+        } catch (IOException e) {
+            // Unparseable log message so only option is to just log the entire message
+            if (logger.isInfoEnabled()) {
+                logger.info(new String(buffer, 0, length, StandardCharsets.UTF_8));
+            }
+            return;
+        }
+
+        if (isEnabled(level)) {
+            log(level, new LogLine(Arrays.copyOf(buffer, length)));
+        }
+    }
+
+    /**
+     * Reads the level of a JSON log line, checking the rest of the line is valid without reading any other values
+     */
+    private static String readLevel(final byte[] line, final int length) throws IOException {
+        String level = null;
+        try (JsonParser parser = LOG_PARSER.createParser(line, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Log line is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+                if (LEVEL.equals(field)) {
+                    level = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return String.valueOf(level);
+    }
+
+    private boolean isEnabled(final String level) {
         switch (level) {
             case "panic":
             case "fatal":
             case "error":
-                logger.error("{} {}", message, new MapToString(details));
+                return logger.isErrorEnabled();
+            case "warning":
+                return logger.isWarnEnabled();
+            case "debug":
+                return logger.isDebugEnabled();
+            default:
+                return logger.isInfoEnabled();
+        }
+    }
+
+    private void log(final String level, final LogLine line) {
+        switch (level) {
+            case "panic":
+            case "fatal":
+            case "error":
+                logger.error("{}", line);
                 break;
             case "warning":
-                logger.warn("{} {}", message, new MapToString(details));
+                logger.warn("{}", line);
                 break;
             default:
                 // fall through
             case "info":
-                logger.info("{} {}", message, new MapToString(details));
+                logger.info("{}", line);
                 break;
             case "debug":
-                logger.debug("{} {}", message, new MapToString(details));
+                logger.debug("{}", line);
                 break;
         }
     }
 
-    private static class MapToString {
-        private final Map<?, ?> delegate;
+    /**
+     * Formats a JSON log line as its message followed by its other fields as {@code key=value} pairs
+     */
+    private static class LogLine {
+        private final byte[] json;
 
-        private MapToString(final Map<?, ?> delegate) {
-            this.delegate = delegate;
+        private LogLine(final byte[] json) {
+            this.json = json;
         }
 
         @Override
         public String toString() {
-            return delegate.isEmpty() ? "" : delegate.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).collect(joining(" "));
+            String message = null;
+            final StringBuilder details = new StringBuilder();
+            try (JsonParser parser = LOG_PARSER.createParser(json)) {
+                parser.nextToken();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String field = parser.getCurrentName();
+                    final JsonToken value = parser.nextToken();
+                    if (MESSAGE.equals(field)) {
+                        message = parser.getValueAsString();
+                    } else if (LEVEL.equals(field) || TIME.equals(field)) {
+                        parser.skipChildren();
+                    } else {
+                        if (details.length() > 0) {
+                            details.append(' ');
+                        }
+                        details.append(field).append('=');
+                        appendValue(parser, value, details);
+                    }
+                }
+            } catch (IOException e) {
+                return new String(json, StandardCharsets.UTF_8);
+            }
+            return message + " " + details;
+        }
+
+        private void appendValue(final JsonParser parser, final JsonToken value, final StringBuilder details) throws IOException {
+            if (value.isStructStart()) {
+                // Nested values are rare, so they are written as they appear in the line
+                final int start = (int) parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                final int end = (int) parser.getCurrentLocation().getByteOffset();
+                details.append(new String(json, start, end - start, StandardCharsets.UTF_8));
+            } else {
+                details.append(value == JsonToken.VALUE_NULL ? "null" : parser.getText());
+            }
         }
     }
 }
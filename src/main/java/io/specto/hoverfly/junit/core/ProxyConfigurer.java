@@ -29,8 +29,8 @@ class ProxyConfigurer {
      * Configures the JVM system properties to use Hoverfly as a proxy
      */
     void setProxySystemProperties() {
-        if (hoverflyConfig.isWebServer()) {
-            // Do nothing if Hoverfly acts as a web server!
+        if (hoverflyConfig.isWebServer() || hoverflyConfig.isScopedClients()) {
+            // Do nothing if Hoverfly acts as a web server, or clients are configured per instance!
             return;
         }
 
@@ -62,8 +62,8 @@ class ProxyConfigurer {
     }
 
     void restoreProxySystemProperties() {
-        if (hoverflyConfig.isWebServer()) {
-            // Do nothing if Hoverfly acts as a web server!
+        if (hoverflyConfig.isWebServer() || hoverflyConfig.isScopedClients()) {
+            // Do nothing if Hoverfly acts as a web server, or clients are configured per instance!
             return;
         }
 
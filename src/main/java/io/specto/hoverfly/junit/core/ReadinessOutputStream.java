@@ -0,0 +1,93 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@code OutputStream} that passes the Hoverfly process output through to a delegate, and watches it for the log lines
+ * that Hoverfly writes once its admin and proxy servers are listening.
+ */
+class ReadinessOutputStream extends OutputStream {
+
+    static final String ADMIN_LISTENING_MESSAGE = "Admin interface is listening";
+    static final String PROXY_LISTENING_MESSAGE = "Proxy is listening";
+
+    // Readiness messages are short and appear near the start of a line, so there is no need to keep very long lines
+    private static final int MAX_SCANNED_LINE_LENGTH = 1024;
+
+    private final OutputStream delegate;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private boolean adminListening;
+    private boolean proxyListening;
+
+    ReadinessOutputStream(OutputStream delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        scan(b);
+        delegate.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (ready.getCount() > 0) {
+            for (int i = off; i < off + len; i++) {
+                scan(b[i]);
+            }
+        }
+        delegate.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    /**
+     * Waits for Hoverfly to report that both its admin and proxy servers are listening
+     *
+     * @return true if Hoverfly reported readiness before the timeout elapsed
+     */
+    boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return ready.await(timeout, unit);
+    }
+
+    boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    private void scan(int b) {
+        if (ready.getCount() == 0) {
+            return;
+        }
+        if (b == '\n') {
+            onLine(new String(line.toByteArray(), StandardCharsets.UTF_8));
+            line.reset();
+        } else if (line.size() < MAX_SCANNED_LINE_LENGTH) {
+            line.write(b);
+        }
+    }
+
+    private void onLine(String text) {
+        if (text.contains(ADMIN_LISTENING_MESSAGE)) {
+            adminListening = true;
+        } else if (text.contains(PROXY_LISTENING_MESSAGE)) {
+            proxyListening = true;
+        }
+        if (adminListening && proxyListening) {
+            ready.countDown();
+        }
+    }
+}
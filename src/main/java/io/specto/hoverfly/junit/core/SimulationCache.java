@@ -0,0 +1,217 @@
+package io.specto.hoverfly.junit.core;
+
+import okio.Okio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A cache of simulation content shared by the whole JVM, for {@link SimulationSource#cached(SimulationSource)}.
+ *
+ * Content read from a resource is keyed by its URL and last modified time. Plain files are memory mapped, so that they are
+ * held outside the heap, while other content is held by soft references, so that the garbage collector can reclaim it.
+ * The simulations used least recently are evicted when the cache grows over its size limit.
+ */
+class SimulationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SimulationCache.class);
+    private static final String CACHE_SIZE_PROPERTY = "hoverfly.simulation.cacheSize";
+    private static final long DEFAULT_CACHE_SIZE_MB = 256;
+
+    private static final SimulationCache DEFAULT = new SimulationCache(defaultMaxBytes());
+
+    // In access order, so that the first entry is the least recently used
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxBytes;
+    private long totalBytes;
+
+    static SimulationCache getDefault() {
+        return DEFAULT;
+    }
+
+    SimulationCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be greater than zero.");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the content of a simulation, reading it into the cache first if it is not cached yet or has been modified
+     *
+     * @return a read-only buffer of the content, which the caller can consume
+     * @throws IllegalArgumentException if the simulation cannot be read
+     */
+    ByteBuffer get(SimulationSource source) {
+        final URL url = source instanceof StreamingSimulationSource ? ((StreamingSimulationSource) source).getResourceUrl() : null;
+        // Sources that are not read from a resource are cached for as long as the same source is used
+        final Object key = url == null ? source : url.toExternalForm();
+        final long lastModified = url == null ? 0 : lastModified(url);
+
+        final ByteBuffer cached = lookup(key, lastModified);
+        if (cached != null) {
+            return cached;
+        }
+        final Path file = toFile(url);
+        // Compressed files are decoded into memory rather than mapped
+        final boolean mapped = isPlainFile(file);
+        final ByteBuffer content = mapped ? map(file) : read(source);
+        store(key, new Entry(content, mapped, lastModified));
+        return content.asReadOnlyBuffer();
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized ByteBuffer lookup(Object key, long lastModified) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final ByteBuffer content = entry.lastModified == lastModified ? entry.content() : null;
+        if (content == null) {
+            // Modified since it was cached, or reclaimed by the garbage collector
+            remove(key);
+        }
+        return content;
+    }
+
+    private synchronized void store(Object key, Entry entry) {
+        remove(key);
+        if (entry.size > maxBytes) {
+            LOGGER.debug("Not caching simulation of {} bytes, as it is larger than the cache", entry.size);
+            return;
+        }
+        entries.put(key, entry);
+        totalBytes += entry.size;
+        final Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (totalBytes > maxBytes) {
+            totalBytes -= leastRecentlyUsed.next().size;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private void remove(Object key) {
+        final Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.size;
+        }
+    }
+
+    private static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot load file resource: '" + file + "'", e);
+        }
+    }
+
+    private static ByteBuffer read(SimulationSource source) {
+        if (!(source instanceof StreamingSimulationSource)) {
+            return ByteBuffer.wrap(source.getSimulation().getBytes(StandardCharsets.UTF_8));
+        }
+        try (InputStream inputStream = ((StreamingSimulationSource) source).openStream()) {
+            return ByteBuffer.wrap(Okio.buffer(Okio.source(inputStream)).readByteArray());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read simulation", e);
+        }
+    }
+
+    private static boolean isPlainFile(Path file) {
+        try {
+            return file != null && !SimulationCodecs.isEncoded(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot load file resource: '" + file + "'", e);
+        }
+    }
+
+    private static Path toFile(URL url) {
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Only resources that are cheap to check are checked for changes, so content from other URLs is not read again
+    private static long lastModified(URL url) {
+        try {
+            final Path file = toFile(url);
+            if (file != null) {
+                return Files.getLastModifiedTime(file).toMillis();
+            }
+            if ("jar".equals(url.getProtocol())) {
+                final URLConnection connection = url.openConnection();
+                return ((JarURLConnection) connection).getJarEntry().getTime();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Cannot get last modified time of {}: {}", url, e.getMessage());
+        }
+        return 0;
+    }
+
+    private static long defaultMaxBytes() {
+        final String cacheSize = System.getProperty(CACHE_SIZE_PROPERTY);
+        long megabytes = DEFAULT_CACHE_SIZE_MB;
+        if (cacheSize != null) {
+            try {
+                megabytes = Long.parseLong(cacheSize.trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring invalid {} system property: {}", CACHE_SIZE_PROPERTY, cacheSize);
+            }
+        }
+        return Math.max(megabytes, 1) * 1024 * 1024;
+    }
+
+    /**
+     * Cached content, either memory mapped or held by a soft reference
+     */
+    private static class Entry {
+
+        private final ByteBuffer mapped;
+        private final SoftReference<ByteBuffer> softReference;
+        private final long size;
+        private final long lastModified;
+
+        private Entry(ByteBuffer content, boolean mapped, long lastModified) {
+            this.mapped = mapped ? content : null;
+            this.softReference = mapped ? null : new SoftReference<>(content);
+            this.size = content.remaining();
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * @return a read-only view of the content, or null if it has been reclaimed
+         */
+        private ByteBuffer content() {
+            final ByteBuffer content = mapped != null ? mapped : softReference.get();
+            return content == null ? null : content.asReadOnlyBuffer();
+        }
+    }
+}
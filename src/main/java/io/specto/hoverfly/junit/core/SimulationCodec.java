@@ -0,0 +1,50 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compression format for simulation files. Simulations are decoded when they are read by a {@link SimulationSource},
+ * if they start with the magic bytes of a codec, and encoded when exported to a path that ends with the file extension
+ * of a codec. Gzip is supported out of the box, and other formats, such as zstd, can be added with
+ * {@link #register(SimulationCodec)}.
+ */
+public interface SimulationCodec {
+
+    /**
+     * The number of bytes at the start of a simulation that are given to {@link #matches(byte[], int)}
+     */
+    int HEADER_LENGTH = 8;
+
+    /**
+     * @return the file extension of the format, such as {@code .gz}
+     */
+    String getFileExtension();
+
+    /**
+     * Checks the magic bytes at the start of a simulation
+     *
+     * @param header the first bytes of the simulation, up to {@link #HEADER_LENGTH}
+     * @param length the number of bytes in the header, which is less than its size if the simulation is shorter
+     * @return whether the simulation is in this format
+     */
+    boolean matches(byte[] header, int length);
+
+    InputStream decode(InputStream inputStream) throws IOException;
+
+    OutputStream encode(OutputStream outputStream) throws IOException;
+
+    static SimulationCodec gzip() {
+        return SimulationCodecs.GZIP;
+    }
+
+    /**
+     * Adds a codec to use for reading and exporting simulations in the whole JVM
+     *
+     * @param codec the codec to add
+     */
+    static void register(SimulationCodec codec) {
+        SimulationCodecs.register(codec);
+    }
+}
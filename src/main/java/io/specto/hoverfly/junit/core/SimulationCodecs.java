@@ -0,0 +1,131 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The registered {@link SimulationCodec}s, and detection of the codec of a simulation
+ */
+final class SimulationCodecs {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final SimulationCodec GZIP = new GzipSimulationCodec();
+
+    private static final List<SimulationCodec> CODECS = new CopyOnWriteArrayList<>();
+
+    static {
+        CODECS.add(GZIP);
+    }
+
+    private SimulationCodecs() {
+    }
+
+    static void register(SimulationCodec codec) {
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null.");
+        }
+        // Registered codecs take precedence, so that a codec can be replaced
+        CODECS.add(0, codec);
+    }
+
+    /**
+     * Finds the codec of a path by its file extension
+     *
+     * @return the codec, or null if the path is for a plain simulation
+     */
+    static SimulationCodec forPath(Path path) {
+        final String fileName = path.getFileName() == null ? "" : path.getFileName().toString().toLowerCase(Locale.ROOT);
+        for (SimulationCodec codec : CODECS) {
+            if (fileName.endsWith(codec.getFileExtension().toLowerCase(Locale.ROOT))) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a file is encoded with a codec, by its file extension or magic bytes
+     */
+    static boolean isEncoded(Path path) throws IOException {
+        if (forPath(path) != null) {
+            return true;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(SimulationCodec.HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // Reads until the header is full or the file ends
+            }
+        }
+        return forHeader(header.array(), header.position()) != null;
+    }
+
+    /**
+     * Decodes a simulation stream if it starts with the magic bytes of a codec
+     */
+    static InputStream decode(InputStream inputStream) throws IOException {
+        final BufferedInputStream buffered = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        final byte[] header = new byte[SimulationCodec.HEADER_LENGTH];
+        buffered.mark(header.length);
+        int length = 0;
+        int read;
+        while (length < header.length && (read = buffered.read(header, length, header.length - length)) != -1) {
+            length += read;
+        }
+        buffered.reset();
+        final SimulationCodec codec = forHeader(header, length);
+        return codec == null ? buffered : codec.decode(buffered);
+    }
+
+    /**
+     * Encodes a simulation written to a path with the codec of its file extension
+     */
+    static OutputStream encode(Path path, OutputStream outputStream) throws IOException {
+        final SimulationCodec codec = forPath(path);
+        return codec == null ? outputStream : codec.encode(outputStream);
+    }
+
+    private static SimulationCodec forHeader(byte[] header, int length) {
+        for (SimulationCodec codec : CODECS) {
+            if (codec.matches(header, length)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    private static class GzipSimulationCodec implements SimulationCodec {
+
+        @Override
+        public String getFileExtension() {
+            return ".gz";
+        }
+
+        @Override
+        public boolean matches(byte[] header, int length) {
+            return length >= 2 && header[0] == (byte) 0x1f && header[1] == (byte) 0x8b;
+        }
+
+        @Override
+        public InputStream decode(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream encode(OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        }
+    }
+}
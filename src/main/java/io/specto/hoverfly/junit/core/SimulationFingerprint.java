@@ -0,0 +1,46 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import okio.BufferedSink;
+import okio.ByteString;
+import okio.HashingSink;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * Digests of simulations, to tell whether Hoverfly already has a simulation without importing it again
+ */
+final class SimulationFingerprint {
+
+    private SimulationFingerprint() {
+    }
+
+    /**
+     * Digests the content of simulation sources, streaming it rather than holding it in memory
+     *
+     * @throws IllegalArgumentException if a source cannot be read
+     */
+    static String of(SimulationSource simulationSource, SimulationSource... sources) {
+        final HashingSink hashingSink = HashingSink.sha256(Okio.blackhole());
+        try (BufferedSink sink = Okio.buffer(hashingSink)) {
+            simulationSource.writeTo(sink);
+            for (SimulationSource source : sources) {
+                // A byte that cannot appear in JSON separates the sources
+                sink.writeByte(0);
+                source.writeTo(sink);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read simulation: " + e.getMessage(), e);
+        }
+        return hashingSink.hash().hex();
+    }
+
+    /**
+     * Digests the data of a simulation exported from Hoverfly. The metadata is left out, as it holds the export time.
+     */
+    static String of(JsonNode simulation) {
+        final JsonNode data = simulation.has("data") ? simulation.get("data") : simulation;
+        return ByteString.encodeUtf8(data.toString()).sha256().hex();
+    }
+}
@@ -0,0 +1,180 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.specto.hoverfly.junit.core.model.HoverflyMetaData;
+import io.specto.hoverfly.junit.core.model.Simulation;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Merges simulations by copying the pairs and delays of every source token by token into one simulation, without binding
+ * them to the {@link Simulation} model. The meta data of the first source is kept.
+ */
+class SimulationMerger {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private final List<SimulationSource> sources;
+
+    private SimulationMerger(List<SimulationSource> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * Creates a {@link SimulationSource} that merges the given sources every time it is read
+     */
+    static SimulationSource merge(SimulationSource simulationSource, SimulationSource... sources) {
+        return new MergedSimulationSource(new SimulationMerger(asList(simulationSource, sources)));
+    }
+
+    /**
+     * Merges the given sources into a {@link Simulation}, for when the merged simulation needs to be modified
+     */
+    static Simulation mergeToSimulation(SimulationSource simulationSource, SimulationSource... sources) {
+        final SimulationMerger merger = new SimulationMerger(asList(simulationSource, sources));
+        try (TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false)) {
+            merger.writeTo(buffer);
+            return OBJECT_MAPPER.readValue(buffer.asParser(), Simulation.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read simulation data.", e);
+        }
+    }
+
+    private void writeTo(JsonGenerator generator) throws IOException {
+        // Delays are buffered as they are written after all the pairs, but they are few compared to pairs
+        final TokenBuffer delays = new TokenBuffer(OBJECT_MAPPER, false);
+        TokenBuffer meta = null;
+
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("data");
+        generator.writeArrayFieldStart("pairs");
+
+        for (SimulationSource source : sources) {
+            try (JsonParser parser = createParser(source)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException("Failed to read simulation data.");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("data".equals(fieldName)) {
+                        copyData(parser, generator, delays);
+                    } else if ("meta".equals(fieldName) && meta == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                        meta = new TokenBuffer(OBJECT_MAPPER, false);
+                        meta.copyCurrentStructure(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("globalActions");
+        generator.writeArrayFieldStart("delays");
+        delays.serialize(generator);
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        generator.writeFieldName("meta");
+        if (meta != null) {
+            meta.serialize(generator);
+        } else {
+            OBJECT_MAPPER.writeValue(generator, new HoverflyMetaData());
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static void copyData(JsonParser parser, JsonGenerator pairs, TokenBuffer delays) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if ("pairs".equals(fieldName)) {
+                copyArrayElements(parser, pairs);
+            } else if ("globalActions".equals(fieldName) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String actionName = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("delays".equals(actionName)) {
+                        copyArrayElements(parser, delays);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void copyArrayElements(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            generator.copyCurrentStructure(parser);
+        }
+    }
+
+    private static JsonParser createParser(SimulationSource source) throws IOException {
+        if (source instanceof StreamingSimulationSource) {
+            return OBJECT_MAPPER.getFactory().createParser(((StreamingSimulationSource) source).openStream());
+        }
+        return OBJECT_MAPPER.getFactory().createParser(source.getSimulation());
+    }
+
+    private static List<SimulationSource> asList(SimulationSource simulationSource, SimulationSource... sources) {
+        final List<SimulationSource> all = new ArrayList<>(sources.length + 1);
+        all.add(simulationSource);
+        all.addAll(Arrays.asList(sources));
+        return all;
+    }
+
+    private static class MergedSimulationSource implements SimulationSource {
+
+        private final SimulationMerger merger;
+
+        private MergedSimulationSource(SimulationMerger merger) {
+            this.merger = merger;
+        }
+
+        @Override
+        public String getSimulation() {
+            final StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+                merger.writeTo(generator);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed to read simulation data.", e);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(Channels.newOutputStream(channel))) {
+                merger.writeTo(generator);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to read simulation data.", e);
+            }
+        }
+    }
+}
@@ -4,9 +4,12 @@ import io.specto.hoverfly.junit.core.model.*;
 import io.specto.hoverfly.junit.dsl.HoverflyDsl;
 import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -31,13 +34,7 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource url(final URL url) {
-        return () -> {
-            try (InputStream is = url.openStream()) {
-                return convertStreamToString(is);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Cannot read simulation", e);
-            }
-        };
+        return new StreamingSimulationSource(url::openStream, "Cannot read simulation", () -> url);
     }
 
     /**
@@ -47,13 +44,7 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource url(final String url) {
-        return () -> {
-            try (InputStream is = new URL(url).openStream()) {
-                return convertStreamToString(is);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Cannot read simulation", e);
-            }
-        };
+        return new StreamingSimulationSource(() -> new URL(url).openStream(), "Cannot read simulation", () -> new URL(url));
     }
 
     /**
@@ -63,13 +54,8 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource classpath(final String classpath) {
-        return () -> {
-            try (InputStream is = getClasspathResourceAsStream(classpath)) {
-                return convertStreamToString(is);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Cannot load classpath resource: '" + classpath + "'", e);
-            }
-        };
+        return new StreamingSimulationSource(() -> getClasspathResourceAsStream(classpath),
+                "Cannot load classpath resource: '" + classpath + "'", () -> findResourceOnClasspath(classpath));
     }
 
     /**
@@ -78,14 +64,9 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource defaultPath(String pathString) {
-        return () -> {
-            final String fullClasspath = HoverflyConstants.DEFAULT_HOVERFLY_RESOURCE_DIR + "/" + pathString;
-            try (InputStream is = getClasspathResourceAsStream(fullClasspath)) {
-                return convertStreamToString(is);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Cannot load default path resource: '" + pathString + "'", e);
-            }
-        };
+        final String fullClasspath = HoverflyConstants.DEFAULT_HOVERFLY_RESOURCE_DIR + "/" + pathString;
+        return new StreamingSimulationSource(() -> getClasspathResourceAsStream(fullClasspath),
+                "Cannot load default path resource: '" + pathString + "'", () -> findResourceOnClasspath(fullClasspath));
     }
 
     /**
@@ -95,13 +76,33 @@ public interface SimulationSource {
      * @return the resource
      */
     static SimulationSource file(final Path path) {
-        return () -> {
-            try(InputStream is = Files.newInputStream(path)) {
-                return convertStreamToString(is);
-            } catch (Exception e) {
-                throw new IllegalArgumentException("Cannot load file resource: '" + path.toString() + "'", e);
-            }
-        };
+        return new StreamingSimulationSource.FileSimulationSource(path);
+    }
+
+    /**
+     * Creates a simulation from an {@link InputStream}. The supplier is called every time the simulation is imported,
+     * and the stream it returns is closed afterwards.
+     *
+     * @param inputStreamSupplier opens a new stream of the simulation
+     * @return the resource
+     */
+    static SimulationSource inputStream(final InputStreamSupplier inputStreamSupplier) {
+        return new StreamingSimulationSource(inputStreamSupplier, "Cannot read simulation");
+    }
+
+    /**
+     * Caches the content of a simulation, so that it is read once instead of every time it is imported. Simulations
+     * read from a file or the classpath are cached by their URL, and read again when their last modified time
+     * changes. Files are memory mapped rather than copied to the heap, and other content is held in memory that the
+     * garbage collector can reclaim when it runs low. The cache is shared by the whole JVM, and the simulations used
+     * least recently are evicted when it grows over its size limit, which is 256 MB unless set in megabytes with the
+     * {@code hoverfly.simulation.cacheSize} system property.
+     *
+     * @param simulationSource the simulation to cache
+     * @return the resource
+     */
+    static SimulationSource cached(final SimulationSource simulationSource) {
+        return new CachedSimulationSource(simulationSource, SimulationCache.getDefault());
     }
 
     /**
@@ -149,4 +150,34 @@ public interface SimulationSource {
 
     String getSimulation();
 
+    /**
+     * Writes the simulation to the given channel. Sources that read from a URL, the classpath, a file or an {@link InputStream}
+     * copy the content without holding the whole simulation in memory.
+     *
+     * @param channel the channel to write the simulation to
+     * @throws IOException if the simulation cannot be written
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(getSimulation().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Gets the length in bytes of the simulation written by {@link #writeTo(WritableByteChannel)}
+     *
+     * @return the length, or -1 if it is not known in advance
+     */
+    default long contentLength() {
+        return -1;
+    }
+
+    /**
+     * Opens a stream of a simulation
+     */
+    @FunctionalInterface
+    interface InputStreamSupplier {
+        InputStream get() throws IOException;
+    }
 }
@@ -1,11 +1,15 @@
 package io.specto.hoverfly.junit.core;
 
+import okio.ByteString;
+import okio.Okio;
+
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -17,7 +21,9 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.specto.hoverfly.junit.core.HoverflyUtils.findResourceOnClasspath;
 
@@ -31,8 +37,12 @@ public class SslConfigurer {
     private static final URL DEFAULT_HOVERFLY_CUSTOM_CA_CERT = findResourceOnClasspath("cert.pem");
     private static final SSLSocketFactory DEFAULT_SSL_SOCKET_FACTORY = HttpsURLConnection.getDefaultSSLSocketFactory();
 
+    // SSL contexts by digest of the certificate, shared by all instances so that TLS sessions can be resumed between them
+    private static final Map<String, PreparedSslContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
     private SSLContext sslContext;
     private TrustManager[] trustManagers;
+    private PreparedSslContext preparedSslContext;
 
     SslConfigurer() {
     }
@@ -71,24 +81,89 @@ public class SslConfigurer {
         setDefaultSslContext(findResourceOnClasspath(pemFilename));
     }
 
-    private void setDefaultSslContext(URL pemFile) {
-        try (InputStream pemInputStream = pemFile.openStream()) {
+    /**
+     * Sets the SSL context for the default Hoverfly certificate, without changing the JVM trust store
+     */
+    void setSslContext() {
+        setSslContext(DEFAULT_HOVERFLY_CUSTOM_CA_CERT);
+    }
+
+    /**
+     * Sets the SSL context for the given certificate, without changing the JVM trust store
+     */
+    void setSslContext(String pemFilename) {
+        setSslContext(findResourceOnClasspath(pemFilename));
+    }
 
-            KeyStore keyStore = createKeyStore(pemInputStream);
-            trustManagers = createTrustManagers(keyStore);
+    /**
+     * Builds the SSL context for the default Hoverfly certificate without applying it, so that it can be done while Hoverfly is starting
+     */
+    void prepareSslContext() {
+        prepareSslContext(DEFAULT_HOVERFLY_CUSTOM_CA_CERT);
+    }
+
+    /**
+     * Builds the SSL context for the given certificate without applying it, so that it can be done while Hoverfly is starting
+     */
+    void prepareSslContext(String pemFilename) {
+        prepareSslContext(findResourceOnClasspath(pemFilename));
+    }
+
+    private synchronized void setSslContext(URL pemFile) {
+        prepareSslContext(pemFile);
+
+        trustManagers = preparedSslContext.trustManagers;
+        sslContext = preparedSslContext.sslContext;
+    }
 
-            sslContext = createSslContext(trustManagers);
+    private synchronized void setDefaultSslContext(URL pemFile) {
+        setSslContext(pemFile);
 
+        // Setting the same context again would make clients create new connections and lose their cached TLS sessions
+        if (!isDefault(sslContext)) {
             SSLContext.setDefault(sslContext);
-            HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
+        }
+        if (HttpsURLConnection.getDefaultSSLSocketFactory() != preparedSslContext.socketFactory) {
+            HttpsURLConnection.setDefaultSSLSocketFactory(preparedSslContext.socketFactory);
+        }
+    }
+
+    private synchronized void prepareSslContext(URL pemFile) {
+        // Compare the string form as URL.equals may resolve host names
+        if (preparedSslContext != null && preparedSslContext.pemFile.equals(pemFile.toString())) {
+            return;
+        }
+
+        try (InputStream pemInputStream = pemFile.openStream()) {
+            ByteString pem = Okio.buffer(Okio.source(pemInputStream)).readByteString();
+            String digest = pem.sha256().hex();
+            PreparedSslContext cached = SSL_CONTEXTS.get(digest);
+            if (cached == null) {
+                KeyStore keyStore = createKeyStore(pem);
+                TrustManager[] trustManagers = createTrustManagers(keyStore);
+                cached = new PreparedSslContext(pemFile.toString(), trustManagers, createSslContext(trustManagers));
+                PreparedSslContext existing = SSL_CONTEXTS.putIfAbsent(digest, cached);
+                if (existing != null) {
+                    cached = existing;
+                }
+            }
+            preparedSslContext = cached.forPemFile(pemFile.toString());
         } catch (Exception e) {
             throw new IllegalStateException("Failed to set SSLContext from hoverfly certificate " + pemFile.toString(), e);
         }
     }
 
-    private static KeyStore createKeyStore(InputStream pemInputStream) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+    private static boolean isDefault(SSLContext sslContext) {
+        try {
+            return SSLContext.getDefault() == sslContext;
+        } catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+
+    private static KeyStore createKeyStore(ByteString pem) throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
         CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
-        X509Certificate cert = (X509Certificate) certFactory.generateCertificate(pemInputStream);
+        X509Certificate cert = (X509Certificate) certFactory.generateCertificate(new ByteArrayInputStream(pem.toByteArray()));
 
         KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
         keyStore.load(null);
@@ -149,4 +224,29 @@ public class SslConfigurer {
                     .findFirst()
                     .orElseThrow(IllegalStateException::new);
     }
+
+    private static class PreparedSslContext {
+        private final String pemFile;
+        private final TrustManager[] trustManagers;
+        private final SSLContext sslContext;
+        private final SSLSocketFactory socketFactory;
+
+        private PreparedSslContext(String pemFile, TrustManager[] trustManagers, SSLContext sslContext) {
+            this(pemFile, trustManagers, sslContext, sslContext.getSocketFactory());
+        }
+
+        private PreparedSslContext(String pemFile, TrustManager[] trustManagers, SSLContext sslContext, SSLSocketFactory socketFactory) {
+            this.pemFile = pemFile;
+            this.trustManagers = trustManagers;
+            this.sslContext = sslContext;
+            this.socketFactory = socketFactory;
+        }
+
+        /**
+         * Shares this context with another file containing the same certificate
+         */
+        private PreparedSslContext forPemFile(String pemFile) {
+            return this.pemFile.equals(pemFile) ? this : new PreparedSslContext(pemFile, trustManagers, sslContext, socketFactory);
+        }
+    }
 }
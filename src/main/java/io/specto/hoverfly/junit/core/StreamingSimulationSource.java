@@ -0,0 +1,157 @@
+package io.specto.hoverfly.junit.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.specto.hoverfly.junit.core.HoverflyUtils.convertStreamToString;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * A {@link SimulationSource} that copies the simulation from where it is stored every time it is imported, instead of
+ * holding it in memory
+ */
+class StreamingSimulationSource implements SimulationSource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStreamSupplier inputStreamSupplier;
+    private final String errorMessage;
+    private final ResourceLocator resourceLocator;
+
+    StreamingSimulationSource(InputStreamSupplier inputStreamSupplier, String errorMessage) {
+        this(inputStreamSupplier, errorMessage, null);
+    }
+
+    StreamingSimulationSource(InputStreamSupplier inputStreamSupplier, String errorMessage, ResourceLocator resourceLocator) {
+        this.inputStreamSupplier = inputStreamSupplier;
+        this.errorMessage = errorMessage;
+        this.resourceLocator = resourceLocator;
+    }
+
+    @Override
+    public String getSimulation() {
+        try (InputStream is = SimulationCodecs.decode(inputStreamSupplier.get())) {
+            return convertStreamToString(is);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(errorMessage, e);
+        }
+    }
+
+    @Override
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        try (ReadableByteChannel source = Channels.newChannel(openStream())) {
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the URL of the resource that the simulation is read from
+     *
+     * @return the URL, or null if the simulation is not read from a resource or the resource cannot be found
+     */
+    URL getResourceUrl() {
+        if (resourceLocator == null) {
+            return null;
+        }
+        try {
+            return resourceLocator.locate();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Opens the simulation stream, decoding it if it is compressed, and failing the same way as {@link #getSimulation()}
+     * if it cannot be opened
+     */
+    InputStream openStream() {
+        try {
+            return SimulationCodecs.decode(inputStreamSupplier.get());
+        } catch (Exception e) {
+            throw new IllegalArgumentException(errorMessage, e);
+        }
+    }
+
+    /**
+     * A {@link StreamingSimulationSource} for files, which knows its content length and lets the file system transfer
+     * the content to the target channel, unless the file is compressed
+     */
+    static class FileSimulationSource extends StreamingSimulationSource {
+
+        private final Path path;
+
+        FileSimulationSource(Path path) {
+            super(() -> Files.newInputStream(path), "Cannot load file resource: '" + path.toString() + "'",
+                    () -> path.toUri().toURL());
+            this.path = path;
+        }
+
+        @Override
+        public void writeTo(WritableByteChannel channel) throws IOException {
+            if (isEncoded()) {
+                super.writeTo(channel);
+                return;
+            }
+            try (FileChannel fileChannel = open()) {
+                final long size = fileChannel.size();
+                long position = 0;
+                while (position < size) {
+                    final long transferred = fileChannel.transferTo(position, size - position, channel);
+                    if (transferred == 0) {
+                        // Nothing is left to transfer if the file was truncated after its size was read
+                        throw new IOException("File resource '" + path + "' was truncated while being read");
+                    }
+                    position += transferred;
+                }
+            }
+        }
+
+        private boolean isEncoded() {
+            try {
+                return SimulationCodecs.isEncoded(path);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot load file resource: '" + path.toString() + "'", e);
+            }
+        }
+
+        private FileChannel open() {
+            try {
+                return FileChannel.open(path, READ);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot load file resource: '" + path.toString() + "'", e);
+            }
+        }
+
+        @Override
+        public long contentLength() {
+            try {
+                return isEncoded() ? -1 : Files.size(path);
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the resource that a simulation is read from
+     */
+    @FunctionalInterface
+    interface ResourceLocator {
+        URL locate() throws IOException;
+    }
+}
@@ -26,7 +26,17 @@ class TempFileManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(TempFileManager.class);
     private static final String TEMP_DIR_PREFIX = "hoverfly.";
     private static final String HOVERFLY_BINARIES_ROOT_PATH = "binaries/";
+    private final HoverflyBinaryCache binaryCache;
     private Path tempDirectory;
+    private boolean binaryLocationSet;
+
+    TempFileManager() {
+        this(HoverflyBinaryCache.getDefault());
+    }
+
+    TempFileManager(HoverflyBinaryCache binaryCache) {
+        this.binaryCache = binaryCache;
+    }
 
     /**
      * Delete the hoverfly temporary directory recursively
@@ -60,13 +70,26 @@ class TempFileManager {
     }
 
     /**
-     * Extracts and runs the binary, setting any appropriate permissions.
-     *
+     * Gets the binary from the shared binary cache, extracting it there on first use. The binary is copied into the
+     * temporary directory instead if a binary location is set or the cache cannot be used.
      */
     Path copyHoverflyBinary(SystemConfig systemConfig) {
         String binaryName = systemConfig.getHoverflyBinaryName();
         LOGGER.info("Selecting the following binary based on the current operating system: {}", binaryName);
         final URL sourceUrl = findResourceOnClasspath(HOVERFLY_BINARIES_ROOT_PATH + binaryName);
+
+        // The temporary directory is still the working directory of the hoverfly process
+        getOrCreateTempDirectory();
+        if (!binaryLocationSet) {
+            try {
+                final Path cachedPath = binaryCache.getOrExtract(sourceUrl, binaryName, systemConfig.getOsName() == WINDOWS);
+                LOGGER.info("Using cached binary {}", cachedPath);
+                return cachedPath;
+            } catch (IOException e) {
+                LOGGER.warn("Failed to use binary cache directory {}, falling back to temporary directory.", binaryCache.getCacheRoot(), e);
+            }
+        }
+
         final Path targetPath = getOrCreateTempDirectory().resolve(binaryName);
         LOGGER.info("Storing binary in temporary directory {}", targetPath);
         final File targetFile = targetPath.toFile();
@@ -111,6 +134,7 @@ class TempFileManager {
 
     void setBinaryLocation(String binaryLocation) {
         this.tempDirectory = Paths.get(binaryLocation);
+        this.binaryLocationSet = true;
     }
 
 }
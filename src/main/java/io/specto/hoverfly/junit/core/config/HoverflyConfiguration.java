@@ -2,6 +2,7 @@ package io.specto.hoverfly.junit.core.config;
 
 import io.specto.hoverfly.junit.core.Hoverfly;
 import io.specto.hoverfly.junit.core.SimulationPreprocessor;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
 import org.slf4j.Logger;
 
 import java.util.List;
@@ -41,6 +42,13 @@ public class HoverflyConfiguration {
     private String binaryNameFormat;
     private List<String> commands;
     private String binaryLocation;
+    private HoverflyMetrics metrics = HoverflyMetrics.NOOP;
+    private boolean scopedClients;
+    private boolean verifySkippedImports;
+    private boolean compactSimulationExport;
+    private boolean embedded;
+    private int asyncLogBufferSize;
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
 
     /**
      * Create configurations for external hoverfly
@@ -251,6 +259,26 @@ public class HoverflyConfiguration {
         return Optional.ofNullable(logLevel);
     }
 
+    public boolean isAsyncLogging() {
+        return asyncLogBufferSize > 0;
+    }
+
+    public int getAsyncLogBufferSize() {
+        return asyncLogBufferSize;
+    }
+
+    public void setAsyncLogBufferSize(int asyncLogBufferSize) {
+        this.asyncLogBufferSize = asyncLogBufferSize;
+    }
+
+    public LogOverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(LogOverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public boolean isStatefulCapture() {
         return statefulCapture;
     }
@@ -295,4 +323,44 @@ public class HoverflyConfiguration {
     public String getBinaryLocation() {
         return binaryLocation;
     }
+
+    public HoverflyMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(HoverflyMetrics metrics) {
+        this.metrics = metrics == null ? HoverflyMetrics.NOOP : metrics;
+    }
+
+    public boolean isEmbedded() {
+        return embedded;
+    }
+
+    public void setEmbedded(boolean embedded) {
+        this.embedded = embedded;
+    }
+
+    public boolean isScopedClients() {
+        return scopedClients;
+    }
+
+    public void setScopedClients(boolean scopedClients) {
+        this.scopedClients = scopedClients;
+    }
+
+    public boolean isVerifySkippedImports() {
+        return verifySkippedImports;
+    }
+
+    public void setVerifySkippedImports(boolean verifySkippedImports) {
+        this.verifySkippedImports = verifySkippedImports;
+    }
+
+    public boolean isCompactSimulationExport() {
+        return compactSimulationExport;
+    }
+
+    public void setCompactSimulationExport(boolean compactSimulationExport) {
+        this.compactSimulationExport = compactSimulationExport;
+    }
 }
@@ -38,6 +38,9 @@ public class LocalHoverflyConfig extends HoverflyConfig {
     private LogLevel logLevel;
     private List<String> commands = new LinkedList<>();
     private String binaryLocation;
+    private int asyncLogBufferSize;
+    private LogOverflowPolicy logOverflowPolicy = LogOverflowPolicy.BLOCK;
+    private boolean embedded;
 
     /**
      * Sets the SSL certificate file for overriding default Hoverfly self-signed certificate
@@ -137,6 +140,41 @@ public class LocalHoverflyConfig extends HoverflyConfig {
         return this;
     }
 
+    /**
+     * Log the output of the Hoverfly binary on a separate thread, through a buffer of 1024 lines, dropping debug lines
+     * when the buffer is full. This stops a slow logger from stalling Hoverfly.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public LocalHoverflyConfig asyncLogging() {
+        return asyncLogging(1024, LogOverflowPolicy.DROP_DEBUG);
+    }
+
+    /**
+     * Log the output of the Hoverfly binary on a separate thread, through a buffer of the given number of lines.
+     * @param bufferSize maximum number of lines waiting to be logged
+     * @param overflowPolicy {@link LogOverflowPolicy} to apply when the buffer is full
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public LocalHoverflyConfig asyncLogging(int bufferSize, LogOverflowPolicy overflowPolicy) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be greater than zero.");
+        }
+        this.asyncLogBufferSize = bufferSize;
+        this.logOverflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    /**
+     * Serve the simulation from an HTTP server inside the JVM instead of starting the Hoverfly binary, which starts in
+     * milliseconds and makes admin calls plain method calls. Only simulate mode over plain HTTP is supported, and
+     * response templates are returned as they are.
+     * @return the {@link HoverflyConfig} for further customizations
+     */
+    public LocalHoverflyConfig embedded() {
+        this.embedded = true;
+        return this;
+    }
+
     /**
      * Set additional commands for starting Hoverfly.
      * @param commands More Hoverfly command flags.
@@ -160,6 +198,13 @@ public class LocalHoverflyConfig extends HoverflyConfig {
         configs.setUpstreamProxy(upstreamProxy);
         configs.setCommands(commands);
         configs.setBinaryLocation(binaryLocation);
+        configs.setMetrics(metrics);
+        configs.setScopedClients(scopedClients);
+        configs.setVerifySkippedImports(verifySkippedImports);
+        configs.setCompactSimulationExport(compactSimulationExport);
+        configs.setAsyncLogBufferSize(asyncLogBufferSize);
+        configs.setLogOverflowPolicy(logOverflowPolicy);
+        configs.setEmbedded(embedded);
         HoverflyConfigValidator validator = new HoverflyConfigValidator();
         return validator.validate(configs);
     }
@@ -0,0 +1,23 @@
+package io.specto.hoverfly.junit.core.config;
+
+/**
+ * What to do with the Hoverfly log output when asynchronous logging is enabled and its buffer is full because the
+ * logger cannot keep up.
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * Wait for space in the buffer. No lines are dropped, but Hoverfly stalls while it waits to write its output.
+     */
+    BLOCK,
+
+    /**
+     * Drop debug lines, and wait for space in the buffer for lines at other levels.
+     */
+    DROP_DEBUG,
+
+    /**
+     * Keep every tenth line, waiting for space in the buffer for it, and drop the others.
+     */
+    SAMPLE
+}
@@ -72,6 +72,10 @@ public class RemoteHoverflyConfig extends HoverflyConfig {
         HoverflyConfiguration configs = new HoverflyConfiguration(scheme, host, proxyPort, adminPort, proxyLocalHost,
                 destination, proxyCaCert, authToken, adminCertificate, captureHeaders, webServer, statefulCapture, incrementalCapture,
                 simulationPreprocessor);
+        configs.setMetrics(metrics);
+        configs.setScopedClients(scopedClients);
+        configs.setVerifySkippedImports(verifySkippedImports);
+        configs.setCompactSimulationExport(compactSimulationExport);
         HoverflyConfigValidator validator = new HoverflyConfigValidator();
         return validator.validate(configs);
     }
@@ -0,0 +1,55 @@
+package io.specto.hoverfly.junit.core.metrics;
+
+import java.time.Duration;
+
+/**
+ * Receives measurements of where time goes when using Hoverfly: starting the process, importing simulations,
+ * verifying requests and calling the admin API. Tags are given as alternating keys and values, such as
+ * {@code "endpoint", "api/v2/simulation"}.
+ * <p>
+ * Nothing is recorded by default. Use {@link MicrometerHoverflyMetrics} to record into a Micrometer registry, or
+ * implement the methods of interest to record elsewhere.
+ */
+public interface HoverflyMetrics {
+
+    /** Time from starting Hoverfly until it is ready to use */
+    String START = "hoverfly.start";
+    /** Time to copy the Hoverfly binary to a temporary directory */
+    String BINARY_COPY = "hoverfly.binary.copy";
+    /** Time from starting the Hoverfly process until it is healthy */
+    String BOOT = "hoverfly.boot";
+    /** Time to import a simulation */
+    String SIMULATE = "hoverfly.simulate";
+    /** Number of simulation imports skipped because Hoverfly already had the simulation */
+    String SIMULATE_SKIPPED = "hoverfly.simulate.skipped";
+    /** Time to delete the simulation, journal and state */
+    String RESET = "hoverfly.reset";
+    /** Time to verify requests, tagged with the outcome */
+    String VERIFY = "hoverfly.verify";
+    /** Time of calls to the admin API, tagged with the endpoint, method and status */
+    String ADMIN_REQUEST = "hoverfly.admin.request";
+    /** Size in bytes of the bodies sent to the admin API, tagged with the endpoint and method */
+    String ADMIN_REQUEST_SIZE = "hoverfly.admin.request.size";
+    /** Size in bytes of the bodies received from the admin API, tagged with the endpoint and method */
+    String ADMIN_RESPONSE_SIZE = "hoverfly.admin.response.size";
+    /** Number of failed calls to the admin API, tagged with the endpoint, method and error */
+    String ADMIN_ERRORS = "hoverfly.admin.errors";
+    /** Number of lines of Hoverfly log output dropped by asynchronous logging, tagged with the overflow policy */
+    String LOG_DROPPED = "hoverfly.log.dropped";
+
+    HoverflyMetrics NOOP = new HoverflyMetrics() {
+    };
+
+    static HoverflyMetrics noop() {
+        return NOOP;
+    }
+
+    default void recordTime(String name, Duration duration, String... tags) {
+    }
+
+    default void recordSize(String name, long bytes, String... tags) {
+    }
+
+    default void incrementCounter(String name, String... tags) {
+    }
+}
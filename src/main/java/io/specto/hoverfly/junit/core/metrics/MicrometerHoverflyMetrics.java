@@ -0,0 +1,44 @@
+package io.specto.hoverfly.junit.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+/**
+ * Records Hoverfly metrics into a Micrometer {@link MeterRegistry}, as timers, distribution summaries of bytes and
+ * counters. Micrometer is not a dependency of hoverfly-java, so it must be on the classpath to use this class.
+ */
+public class MicrometerHoverflyMetrics implements HoverflyMetrics {
+
+    private final MeterRegistry registry;
+
+    public MicrometerHoverflyMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordTime(String name, Duration duration, String... tags) {
+        Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(duration);
+    }
+
+    @Override
+    public void recordSize(String name, long bytes, String... tags) {
+        DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(bytes);
+    }
+
+    @Override
+    public void incrementCounter(String name, String... tags) {
+        registry.counter(name, tags).increment();
+    }
+}
@@ -15,16 +15,17 @@ package io.specto.hoverfly.junit.core.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Objects;
+
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class DelaySettings {
 
     private final String urlPattern;
     private final int delay;
     private final String httpMethod;
+    private transient int hash;
 
 
     @JsonCreator
@@ -50,12 +51,26 @@ public class DelaySettings {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final DelaySettings that = (DelaySettings) obj;
+        return Objects.equals(urlPattern, that.urlPattern) &&
+                delay == that.delay &&
+                Objects.equals(httpMethod, that.httpMethod);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hash(urlPattern, delay, httpMethod);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -13,19 +13,14 @@
 package io.specto.hoverfly.junit.core.model;
 
 import com.fasterxml.jackson.annotation.*;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class HoverflyMetaData {
 
-    private static final List<String> EXCLUDED_FIELDS = Arrays.asList("hoverflyVersion", "timeExported");
-
     private String schemaVersion;
     private String hoverflyVersion;
     private String timeExported;
@@ -55,14 +50,22 @@ public class HoverflyMetaData {
         return timeExported;
     }
 
+    // The Hoverfly version and export time are not compared
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj, EXCLUDED_FIELDS);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final HoverflyMetaData that = (HoverflyMetaData) obj;
+        return Objects.equals(schemaVersion, that.schemaVersion);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this, EXCLUDED_FIELDS);
+        return Objects.hashCode(schemaVersion);
     }
 
     @Override
@@ -16,12 +16,11 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -204,12 +203,27 @@ public class Request {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Request that = (Request) obj;
+        return Objects.equals(path, that.path) &&
+                Objects.equals(method, that.method) &&
+                Objects.equals(destination, that.destination) &&
+                Objects.equals(scheme, that.scheme) &&
+                Objects.equals(query, that.query) &&
+                Objects.equals(deprecatedQuery, that.deprecatedQuery) &&
+                Objects.equals(body, that.body) &&
+                Objects.equals(headers, that.headers) &&
+                Objects.equals(requiresState, that.requiresState);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return Objects.hash(path, method, destination, scheme, query, deprecatedQuery, body, headers, requiresState);
     }
 
     @Override
@@ -1,10 +1,10 @@
 package io.specto.hoverfly.junit.core.model;
 
 import com.fasterxml.jackson.annotation.*;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.util.Objects;
+
 import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.MatcherType.EXACT;
 import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.MatcherType.REGEX;
 
@@ -94,12 +94,20 @@ public class RequestFieldMatcher<T> {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final RequestFieldMatcher<?> that = (RequestFieldMatcher<?>) obj;
+        return Objects.equals(matcher, that.matcher) &&
+                Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return Objects.hash(matcher, value);
     }
 
     @Override
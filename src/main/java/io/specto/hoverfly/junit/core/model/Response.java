@@ -16,12 +16,11 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
@@ -131,12 +130,25 @@ public class Response {
 
     @Override
     public boolean equals(Object obj) {
-        return EqualsBuilder.reflectionEquals(this, obj);
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final Response that = (Response) obj;
+        return Objects.equals(status, that.status) &&
+                Objects.equals(body, that.body) &&
+                encodedBody == that.encodedBody &&
+                templated == that.templated &&
+                Objects.equals(headers, that.headers) &&
+                Objects.equals(transitionsState, that.transitionsState) &&
+                Objects.equals(removesState, that.removesState);
     }
 
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return Objects.hash(status, body, encodedBody, templated, headers, transitionsState, removesState);
     }
 
     @Override
@@ -0,0 +1,335 @@
+package io.specto.hoverfly.junit.embedded;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.api.command.SortParams;
+import io.specto.hoverfly.junit.api.model.ModeArguments;
+import io.specto.hoverfly.junit.api.view.DiffView;
+import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
+import io.specto.hoverfly.junit.api.view.StateView;
+import io.specto.hoverfly.junit.core.HoverflyMode;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.core.model.Response;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import io.specto.hoverfly.junit.verification.LocalRequestMatcher;
+import io.specto.hoverfly.junit.verification.RequestMatcherIndex;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * A {@link HoverflyClient} that keeps the simulation, journal and state in memory, so that admin calls are method
+ * calls. Requests are served from the simulation by an {@link EmbeddedHoverflyServer}. Only simulate mode is supported.
+ */
+public class EmbeddedHoverflyClient implements HoverflyClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    static final String NO_MATCH_MESSAGE = "Hoverfly Error!\n\nThere was an error when matching\n\n"
+            + "Got error: Could not find a match for request, create or record a valid matcher first!";
+    private static final Response NO_MATCH_RESPONSE = new Response(502, NO_MATCH_MESSAGE, false, false,
+            Collections.singletonMap("Content-Type", singletonList("text/plain")), null, null);
+
+    private volatile CompiledSimulation simulation = new CompiledSimulation(Simulation.newEmptyInstance());
+    private final List<JournalEntry> journal = new ArrayList<>();
+    private final Map<String, String> state = new HashMap<>();
+    private volatile String destination = ".";
+
+    @Override
+    public void setSimulation(Simulation simulation) {
+        this.simulation = new CompiledSimulation(simulation);
+    }
+
+    @Override
+    public void setSimulation(String simulation) {
+        try {
+            setSimulation(OBJECT_MAPPER.readValue(simulation, Simulation.class));
+        } catch (IOException e) {
+            throw new HoverflyClientException("Failed to set simulation: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Simulation getSimulation() {
+        return simulation.source;
+    }
+
+    @Override
+    public JsonNode getSimulationJson() {
+        return OBJECT_MAPPER.valueToTree(simulation.source);
+    }
+
+    @Override
+    public void deleteSimulation() {
+        simulation = new CompiledSimulation(Simulation.newEmptyInstance());
+    }
+
+    @Override
+    public Journal getJournal(int offset, int limit) {
+        return getJournal(offset, limit, null);
+    }
+
+    @Override
+    public Journal getJournal(int offset, int limit, SortParams sortParams) {
+        final List<JournalEntry> entries = journalEntries();
+        final Comparator<JournalEntry> order = sortParams == null ? null : comparing(sortParams);
+        if (order != null) {
+            entries.sort(order);
+        }
+        final int from = Math.min(Math.max(offset, 0), entries.size());
+        final int to = Math.min(from + Math.max(limit, 0), entries.size());
+        return new Journal(new ArrayList<>(entries.subList(from, to)), offset, limit, entries.size());
+    }
+
+    @Override
+    public Journal searchJournal(Request request) {
+        final LocalRequestMatcher matcher = new LocalRequestMatcher(request);
+        final List<JournalEntry> entries = journalEntries().stream()
+                .filter(entry -> matcher.matches(entry.getRequest()))
+                .collect(Collectors.toList());
+        return new Journal(entries, 0, entries.size(), entries.size());
+    }
+
+    @Override
+    public void deleteJournal() {
+        synchronized (journal) {
+            journal.clear();
+        }
+    }
+
+    @Override
+    public void deleteState() {
+        synchronized (state) {
+            state.clear();
+        }
+    }
+
+    @Override
+    public StateView getState() {
+        synchronized (state) {
+            return new StateView(new HashMap<>(state));
+        }
+    }
+
+    @Override
+    public void setState(StateView stateView) {
+        synchronized (state) {
+            state.clear();
+            state.putAll(stateView.getState());
+        }
+    }
+
+    @Override
+    public void updateState(StateView stateView) {
+        synchronized (state) {
+            state.putAll(stateView.getState());
+        }
+    }
+
+    @Override
+    public DiffView getDiffs() {
+        return new DiffView(Collections.emptyList());
+    }
+
+    @Override
+    public void cleanDiffs() {
+    }
+
+    @Override
+    public HoverflyInfoView getConfigInfo() {
+        return new HoverflyInfoView(destination, HoverflyMode.SIMULATE.getValue(), null, null, null, null);
+    }
+
+    @Override
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public void setMode(HoverflyMode mode) {
+        setMode(mode, null);
+    }
+
+    @Override
+    public void setMode(HoverflyMode mode, ModeArguments modeArguments) {
+        if (mode != HoverflyMode.SIMULATE) {
+            throw new HoverflyClientException("Embedded Hoverfly only supports simulate mode.");
+        }
+    }
+
+    @Override
+    public boolean getHealth() {
+        return true;
+    }
+
+    /**
+     * Finds the response to a request from the simulation, applies its state changes and delay, and records it in the journal
+     */
+    Response serve(RequestDetails request) {
+        final long startNanos = System.nanoTime();
+        final ZonedDateTime timeStarted = ZonedDateTime.now(ZoneOffset.UTC);
+        final CompiledSimulation simulation = this.simulation;
+
+        Response response;
+        synchronized (state) {
+            response = simulation.findResponse(request, state);
+            if (response != null) {
+                if (response.getRemovesState() != null) {
+                    response.getRemovesState().forEach(state::remove);
+                }
+                if (response.getTransitionsState() != null) {
+                    state.putAll(response.getTransitionsState());
+                }
+            }
+        }
+        if (response == null) {
+            response = NO_MATCH_RESPONSE;
+        }
+
+        final long delayMillis = simulation.delayFor(request);
+        if (delayMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        final double latencyMillis = (System.nanoTime() - startNanos) / 1e6;
+        synchronized (journal) {
+            journal.add(new JournalEntry(request, response, HoverflyMode.SIMULATE.getValue(), timeStarted, latencyMillis));
+        }
+        return response;
+    }
+
+    private List<JournalEntry> journalEntries() {
+        synchronized (journal) {
+            return new ArrayList<>(journal);
+        }
+    }
+
+    private static Comparator<JournalEntry> comparing(SortParams sortParams) {
+        final Comparator<JournalEntry> order;
+        switch (sortParams.getProperty()) {
+            case "timeStarted":
+                order = Comparator.comparing(JournalEntry::getTimeStarted);
+                break;
+            case "latency":
+                order = Comparator.comparing(JournalEntry::getLatency);
+                break;
+            default:
+                return null;
+        }
+        return sortParams.getDirection() == SortParams.Direction.DESC ? order.reversed() : order;
+    }
+
+    /**
+     * A simulation with its request matchers compiled. Among the pairs that match a request, the one with the most
+     * matchers is chosen, as it is the most specific. Pairs are indexed in that order, so that only the pairs that
+     * can match a request are tried.
+     */
+    private static class CompiledSimulation {
+
+        private final Simulation source;
+        private final RequestMatcherIndex<CompiledPair> pairs = new RequestMatcherIndex<>();
+        private final List<CompiledDelay> delays = new ArrayList<>();
+
+        private CompiledSimulation(Simulation source) {
+            this.source = source;
+            source.getHoverflyData().getPairs().stream()
+                    .map(CompiledPair::new)
+                    .sorted(Comparator.comparingInt((CompiledPair pair) -> pair.score).reversed())
+                    .forEach(pair -> pairs.add(pair.request, pair));
+            if (source.getHoverflyData().getGlobalActions() != null && source.getHoverflyData().getGlobalActions().getDelays() != null) {
+                source.getHoverflyData().getGlobalActions().getDelays().forEach(delay -> delays.add(new CompiledDelay(delay)));
+            }
+        }
+
+        private Response findResponse(RequestDetails request, Map<String, String> state) {
+            final CompiledPair pair = pairs.findFirst(request, candidate -> candidate.requiresStateIn(state));
+            return pair == null ? null : pair.response;
+        }
+
+        private long delayFor(RequestDetails request) {
+            final String url = request.getDestination() + request.getPath();
+            for (CompiledDelay delay : delays) {
+                if (delay.matches(url, request.getMethod())) {
+                    return delay.delay;
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static class CompiledPair {
+
+        private final Request request;
+        private final Map<String, String> requiresState;
+        private final Response response;
+        private final int score;
+
+        private CompiledPair(RequestResponsePair pair) {
+            this.request = pair.getRequest();
+            this.requiresState = request.getRequiresState() == null ? Collections.emptyMap() : request.getRequiresState();
+            this.response = pair.getResponse();
+            this.score = count(request.getScheme()) + count(request.getDestination()) + count(request.getPath())
+                    + count(request.getMethod()) + count(request.getBody()) + count(request.getDeprecatedQuery())
+                    + count(request.getQuery()) + count(request.getHeaders()) + requiresState.size();
+        }
+
+        private boolean requiresStateIn(Map<String, String> state) {
+            for (Map.Entry<String, String> required : requiresState.entrySet()) {
+                if (!required.getValue().equals(state.get(required.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int count(List<?> matchers) {
+            return matchers == null ? 0 : matchers.size();
+        }
+
+        private static int count(Map<String, ? extends List<?>> matchers) {
+            return matchers == null ? 0 : matchers.values().stream().mapToInt(CompiledPair::count).sum();
+        }
+    }
+
+    private static class CompiledDelay {
+
+        private final Pattern urlPattern;
+        private final String httpMethod;
+        private final long delay;
+
+        private CompiledDelay(DelaySettings delaySettings) {
+            this.urlPattern = Pattern.compile(delaySettings.getUrlPattern());
+            this.httpMethod = delaySettings.getHttpMethod();
+            this.delay = delaySettings.getDelay();
+        }
+
+        private boolean matches(String url, String method) {
+            return (httpMethod == null || httpMethod.isEmpty() || httpMethod.equalsIgnoreCase(method))
+                    && urlPattern.matcher(url).find();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.specto.hoverfly.junit.embedded;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.Response;
+import okio.Okio;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An HTTP server in the JVM that serves requests from the simulation of an {@link EmbeddedHoverflyClient}. It accepts
+ * both proxied requests and requests sent to it directly as a web server. HTTPS and response templating are not
+ * supported.
+ */
+public class EmbeddedHoverflyServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private EmbeddedHoverflyServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts serving requests on the given port
+     * @param client the client holding the simulation to serve
+     * @param port the port to listen on
+     * @return the started server
+     */
+    public static EmbeddedHoverflyServer start(EmbeddedHoverflyClient client, int port) {
+        final HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start embedded Hoverfly on port " + port, e);
+        }
+        final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "hoverfly-embedded");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", exchange -> handle(client, exchange));
+        server.setExecutor(executor);
+        server.start();
+        return new EmbeddedHoverflyServer(server, executor);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handle(EmbeddedHoverflyClient client, HttpExchange exchange) throws IOException {
+        try {
+            final Response response = client.serve(toRequestDetails(exchange));
+            final byte[] body = responseBody(response);
+            if (response.getHeaders() != null) {
+                response.getHeaders().forEach((name, values) -> exchange.getResponseHeaders().put(name, new ArrayList<>(values)));
+            }
+            final boolean noBody = body.length == 0 || exchange.getRequestMethod().equals("HEAD");
+            exchange.sendResponseHeaders(response.getStatus(), noBody ? -1 : body.length);
+            if (!noBody) {
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static RequestDetails toRequestDetails(HttpExchange exchange) throws IOException {
+        final URI uri = exchange.getRequestURI();
+        // Proxied requests have an absolute URI, while requests to a web server have the destination in the Host header
+        final String scheme = uri.getScheme() == null ? "http" : uri.getScheme();
+        final String destination = uri.getRawAuthority() == null ? exchange.getRequestHeaders().getFirst("Host") : uri.getRawAuthority();
+        final String body = new String(Okio.buffer(Okio.source(exchange.getRequestBody())).readByteArray(), StandardCharsets.UTF_8);
+
+        final Map<String, List<String>> headers = new LinkedHashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name, new ArrayList<>(values)));
+
+        return new RequestDetails(scheme, destination, uri.getPath(), uri.getRawQuery() == null ? "" : uri.getRawQuery(), body,
+                exchange.getRequestMethod(), headers);
+    }
+
+    private static byte[] responseBody(Response response) {
+        if (response.getBody() == null) {
+            return new byte[0];
+        }
+        return response.isEncodedBody()
+                ? Base64.getDecoder().decode(response.getBody())
+                : response.getBody().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -17,6 +17,8 @@ import io.specto.hoverfly.junit.core.model.Simulation;
 import io.specto.hoverfly.junit.dsl.HoverflyDsl;
 import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
 import io.specto.hoverfly.junit.dsl.StubServiceBuilder;
+import io.specto.hoverfly.junit.verification.JournalSnapshot;
+import io.specto.hoverfly.junit.verification.JournalStatistics;
 import io.specto.hoverfly.junit.verification.VerificationCriteria;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
@@ -81,15 +83,19 @@ public class HoverflyRule extends ExternalResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HoverflyRule.class);
 
-    private final Hoverfly hoverfly;
+    private final HoverflyConfig hoverflyConfig;
     private final HoverflyMode hoverflyMode;
+    private Hoverfly hoverfly;
     private Path capturePath;
     private List<SimulationSource> simulationSources = new ArrayList<>();
     private boolean enableSimulationPrint;
+    private HoverflyPool hoverflyPool;
+    private HoverflyPool.Lease lease;
+    private boolean startedEagerly;
 
     private HoverflyRule(HoverflyMode hoverflyMode, final SimulationSource simulationSource, final HoverflyConfig hoverflyConfig) {
         this.hoverflyMode = hoverflyMode;
-        this.hoverfly = new Hoverfly(hoverflyConfig, hoverflyMode);
+        this.hoverflyConfig = hoverflyConfig;
         if (simulationSource != null) {
             this.simulationSources.add(simulationSource);
         }
@@ -97,7 +103,7 @@ public class HoverflyRule extends ExternalResource {
 
     private HoverflyRule(final Path capturePath, final HoverflyConfig hoverflyConfig) {
         this.hoverflyMode = CAPTURE;
-        this.hoverfly = new Hoverfly(hoverflyConfig, hoverflyMode);
+        this.hoverflyConfig = hoverflyConfig;
         this.capturePath = capturePath;
     }
 
@@ -295,14 +301,19 @@ public class HoverflyRule extends ExternalResource {
      */
     @Override
     protected void before() {
-        hoverfly.start();
+        if (hoverflyPool != null) {
+            lease = hoverflyPool.lease(hoverflyConfig, hoverflyMode);
+            hoverfly = lease.getHoverfly();
+        } else {
+            hoverfly().start();
+        }
 
         if (hoverflyMode.allowSimulationImport()) {
             importSimulation();
         }
 
-        if (hoverfly.getHoverflyConfig().isIncrementalCapture() && this.capturePath != null && Files.isReadable(this.capturePath)) {
-            hoverfly.simulate(SimulationSource.file(this.capturePath));
+        if (hoverfly().getHoverflyConfig().isIncrementalCapture() && this.capturePath != null && Files.isReadable(this.capturePath)) {
+            hoverfly().simulate(SimulationSource.file(this.capturePath));
         }
     }
 
@@ -313,10 +324,15 @@ public class HoverflyRule extends ExternalResource {
     protected void after() {
         try {
             if (hoverflyMode == CAPTURE) {
-                hoverfly.exportSimulation(capturePath);
+                hoverfly().exportSimulation(capturePath);
             }
         } finally {
-            hoverfly.close();
+            if (lease != null) {
+                lease.close();
+                lease = null;
+            } else {
+                hoverfly().close();
+            }
         }
     }
 
@@ -326,11 +342,19 @@ public class HoverflyRule extends ExternalResource {
      * @return the proxy port
      */
     public int getProxyPort() {
-        return hoverfly.getHoverflyConfig().getProxyPort();
+        return hoverfly().getHoverflyConfig().getProxyPort();
     }
 
     public SslConfigurer getSslConfigurer() {
-        return hoverfly.getSslConfigurer();
+        return hoverfly().getSslConfigurer();
+    }
+
+    /**
+     * Gets the HTTP clients configured to send requests through this Hoverfly instance
+     * @return the {@link HoverflyClients}
+     */
+    public HoverflyClients getClients() {
+        return hoverfly().getClients();
     }
     /**
      * Gets started Hoverfly mode
@@ -355,9 +379,9 @@ public class HoverflyRule extends ExternalResource {
         if (sources.length > 0) {
             this.simulationSources.addAll(Arrays.asList(sources));
         }
-        hoverfly.resetState();
+        hoverfly().resetState();
         importSimulation();
-        hoverfly.resetJournal();
+        hoverfly().resetJournal();
     }
 
     /**
@@ -378,9 +402,9 @@ public class HoverflyRule extends ExternalResource {
     public void capture(final String outputDir, final String outputFilename) {
         checkMode(mode -> mode == CAPTURE);
         if (capturePath != null) {
-            hoverfly.exportSimulation(capturePath);
+            hoverfly().exportSimulation(capturePath);
         }
-        hoverfly.reset();
+        hoverfly().reset();
         capturePath = Paths.get(outputDir).resolve(outputFilename);
     }
 
@@ -400,7 +424,7 @@ public class HoverflyRule extends ExternalResource {
      */
     @Deprecated
     public String getAuthHeaderValue() {
-        Optional<String> authToken = hoverfly.getHoverflyConfig().getAuthToken();
+        Optional<String> authToken = hoverfly().getHoverflyConfig().getAuthToken();
         return authToken.map(s -> "Bearer " + s).orElse(null);
     }
 
@@ -413,31 +437,94 @@ public class HoverflyRule extends ExternalResource {
         return this;
     }
 
+    /**
+     * Leases a running Hoverfly from the JVM-wide {@link HoverflyPool} instead of starting a new process for this rule.
+     * The instance is reset and returned to the pool when the rule finishes.
+     * @return this HoverflyRule
+     */
+    public HoverflyRule pooled() {
+        return pooled(HoverflyPool.getDefault());
+    }
+
+    /**
+     * Leases a running Hoverfly from the given {@link HoverflyPool} instead of starting a new process for this rule.
+     * The instance is reset and returned to the pool when the rule finishes.
+     * @param hoverflyPool the pool to lease from
+     * @return this HoverflyRule
+     */
+    public HoverflyRule pooled(HoverflyPool hoverflyPool) {
+        if (startedEagerly) {
+            throw new IllegalStateException("A HoverflyRule that is started eagerly cannot be pooled.");
+        }
+        this.hoverflyPool = hoverflyPool;
+        return this;
+    }
+
+    /**
+     * Starts Hoverfly in the background as soon as the rule is built, rather than when the rule is applied, so that the
+     * startup overlaps with the rest of the test setup. The rule waits for Hoverfly to become ready before running the tests.
+     * @return this HoverflyRule
+     */
+    public HoverflyRule startEagerly() {
+        if (hoverflyPool != null) {
+            throw new IllegalStateException("A pooled HoverflyRule cannot be started eagerly.");
+        }
+        if (!startedEagerly) {
+            hoverfly().startAsync();
+            startedEagerly = true;
+        }
+        return this;
+    }
+
+    // Created when first used, as a pooled rule uses the instance it leases instead
+    private Hoverfly hoverfly() {
+        if (hoverfly == null) {
+            hoverfly = new Hoverfly(hoverflyConfig, hoverflyMode);
+        }
+        return hoverfly;
+    }
+
     public void verify(RequestMatcherBuilder requestMatcher) {
-        hoverfly.verify(requestMatcher);
+        hoverfly().verify(requestMatcher);
     }
 
     public void verify(RequestMatcherBuilder requestMatcher, VerificationCriteria criteria) {
-        hoverfly.verify(requestMatcher, criteria);
+        hoverfly().verify(requestMatcher, criteria);
+    }
+
+    public void verify(Collection<RequestMatcherBuilder> requestMatchers, VerificationCriteria criteria) {
+        hoverfly().verify(requestMatchers, criteria);
     }
 
     public void verifyZeroRequestTo(StubServiceBuilder requestedServiceBuilder) {
-        hoverfly.verifyZeroRequestTo(requestedServiceBuilder);
+        hoverfly().verifyZeroRequestTo(requestedServiceBuilder);
     }
 
     public void verifyAll() {
-        hoverfly.verifyAll();
+        hoverfly().verifyAll();
+    }
+
+    public JournalSnapshot snapshotJournal() {
+        return hoverfly().snapshotJournal();
+    }
+
+    public JournalStatistics getJournalStatistics() {
+        return hoverfly().getJournalStatistics();
+    }
+
+    public JournalTailer tailJournal(JournalListener listener) {
+        return hoverfly().tailJournal(listener);
     }
 
     public void resetJournal() {
-        hoverfly.resetJournal();
+        hoverfly().resetJournal();
     }
 
     /**
      * Deletes all state from Hoverfly
      */
     public void resetState() {
-        hoverfly.resetState();
+        hoverfly().resetState();
     }
 
     /**
@@ -446,7 +533,7 @@ public class HoverflyRule extends ExternalResource {
      * @return the state
      */
     public Map<String, String> getState() {
-        return hoverfly.getState();
+        return hoverfly().getState();
     }
 
     /**
@@ -455,7 +542,7 @@ public class HoverflyRule extends ExternalResource {
      * @param state the new state
      */
     public void setState(final Map<String, String> state) {
-        hoverfly.setState(state);
+        hoverfly().setState(state);
     }
 
     /**
@@ -464,11 +551,11 @@ public class HoverflyRule extends ExternalResource {
      *  @param state the state to update with
      */
     public void updateState(final Map<String, String> state) {
-        hoverfly.updateState(state);
+        hoverfly().updateState(state);
     }
 
     public void resetDiffs() {
-        hoverfly.resetDiffs();
+        hoverfly().resetDiffs();
     }
 
     /**
@@ -487,7 +574,7 @@ public class HoverflyRule extends ExternalResource {
      * @param shouldResetDiff if all available diffs should be removed when the assertion is done.
      */
     public void assertThatNoDiffIsReported(boolean shouldResetDiff) {
-        hoverfly.assertThatNoDiffIsReported(shouldResetDiff);
+        hoverfly().assertThatNoDiffIsReported(shouldResetDiff);
     }
 
     private void checkMode(Predicate<HoverflyMode> condition) {
@@ -500,16 +587,16 @@ public class HoverflyRule extends ExternalResource {
         if (simulationSources != null && !simulationSources.isEmpty()) {
 
             if (simulationSources.size() == 1) {
-                hoverfly.simulate(simulationSources.get(0));
+                hoverfly().simulate(simulationSources.get(0));
             } else {
 
                 SimulationSource[] sources = new SimulationSource[simulationSources.size() - 1];
                 sources = simulationSources.subList(1, simulationSources.size()).toArray(sources);
-                hoverfly.simulate(simulationSources.get(0), sources);
+                hoverfly().simulate(simulationSources.get(0), sources);
             }
 
             if (enableSimulationPrint) {
-                Simulation imported = hoverfly.getSimulation();
+                Simulation imported = hoverfly().getSimulation();
                 prettyPrintSimulation(imported);
             }
         }
@@ -0,0 +1,10 @@
+package io.specto.hoverfly.junit.verification;
+
+/**
+ * A compiled request field matcher
+ */
+@FunctionalInterface
+interface FieldMatcher {
+
+    boolean matches(String actual);
+}
@@ -0,0 +1,401 @@
+package io.specto.hoverfly.junit.verification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher.MatcherType;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Java implementations of the Hoverfly request field matchers. Compiled matchers hold their parsed form, such as the
+ * {@link Pattern} of a regex or the JSON tree of a JSON matcher, and are cached so that a matcher is only compiled once.
+ */
+final class FieldMatchers {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int CACHE_SIZE = 1024;
+
+    private static final Map<RequestFieldMatcher<?>, FieldMatcher> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<RequestFieldMatcher<?>, FieldMatcher>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RequestFieldMatcher<?>, FieldMatcher> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    private FieldMatchers() {
+    }
+
+    /**
+     * Compiles a request field matcher
+     *
+     * @throws IllegalArgumentException if the matcher is not valid or cannot be evaluated locally
+     */
+    static FieldMatcher compile(RequestFieldMatcher<?> requestFieldMatcher) {
+        final FieldMatcher cached = CACHE.get(requestFieldMatcher);
+        if (cached != null) {
+            return cached;
+        }
+        final FieldMatcher compiled = doCompile(requestFieldMatcher.getMatcher(), requestFieldMatcher.getValue());
+        CACHE.put(requestFieldMatcher, compiled);
+        return compiled;
+    }
+
+    private static FieldMatcher doCompile(MatcherType matcherType, Object value) {
+        if (matcherType == null) {
+            throw new IllegalArgumentException("Matcher type is missing.");
+        }
+        final String expected = asString(value);
+        switch (matcherType) {
+            case EXACT:
+                return actual -> Objects.equals(expected, actual);
+            case GLOB:
+                return new GlobMatcher(expected);
+            case REGEX:
+                return new RegexMatcher(expected);
+            case JSON:
+                return new JsonMatcher(readJson(expected), false);
+            case JSONPARTIAL:
+                return new JsonMatcher(readJson(expected), true);
+            case JSONPATH:
+                return new JsonPathMatcher(JsonPath.compile(expected));
+            case XML:
+                return new XmlMatcher(readXml(expected));
+            case XPATH:
+                return new XpathMatcher(expected);
+            default:
+                throw new IllegalArgumentException("Unsupported matcher type: " + matcherType.getValue());
+        }
+    }
+
+    private static String asString(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read matcher value: " + value, e);
+        }
+    }
+
+    private static JsonNode readJson(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + json, e);
+        }
+    }
+
+    private static JsonNode readJsonOrNull(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Document readXml(String xml) {
+        try {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setIgnoringComments(true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            final DocumentBuilder builder = factory.newDocumentBuilder();
+            // Reports errors by throwing rather than printing them
+            builder.setErrorHandler(new DefaultHandler());
+            final Document document = builder.parse(new InputSource(new StringReader(xml)));
+            removeWhitespaceNodes(document);
+            document.normalizeDocument();
+            return document;
+        } catch (ParserConfigurationException | IOException | SAXException e) {
+            throw new IllegalArgumentException("Invalid XML: " + xml, e);
+        }
+    }
+
+    private static Document readXmlOrNull(String xml) {
+        if (xml == null || xml.isEmpty()) {
+            return null;
+        }
+        try {
+            return readXml(xml);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Formatting between elements does not make documents different
+    private static void removeWhitespaceNodes(Node node) {
+        final NodeList children = node.getChildNodes();
+        for (int i = children.getLength() - 1; i >= 0; i--) {
+            final Node child = children.item(i);
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().trim().isEmpty()) {
+                node.removeChild(child);
+            } else {
+                removeWhitespaceNodes(child);
+            }
+        }
+    }
+
+    /**
+     * A glob where {@code *} matches any characters, compiled to the literal parts between the wildcards. The parts are
+     * matched left to right, so matching takes linear time.
+     */
+    static class GlobMatcher implements FieldMatcher {
+
+        private final String[] parts;
+
+        GlobMatcher(String glob) {
+            this.parts = glob.split("\\*", -1);
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            if (actual == null) {
+                return false;
+            }
+            if (parts.length == 1) {
+                return parts[0].equals(actual);
+            }
+            final String first = parts[0];
+            final String last = parts[parts.length - 1];
+            if (!actual.startsWith(first) || actual.length() < first.length() + last.length()) {
+                return false;
+            }
+            int position = first.length();
+            final int end = actual.length() - last.length();
+            for (int i = 1; i < parts.length - 1; i++) {
+                final int found = actual.indexOf(parts[i], position);
+                if (found < 0 || found + parts[i].length() > end) {
+                    return false;
+                }
+                position = found + parts[i].length();
+            }
+            return actual.startsWith(last, end);
+        }
+    }
+
+    /**
+     * Hoverfly regexes are not anchored, so the pattern only needs to be found in the value
+     */
+    static class RegexMatcher implements FieldMatcher {
+
+        private final Pattern pattern;
+
+        RegexMatcher(String regex) {
+            try {
+                this.pattern = Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid regex: " + regex, e);
+            }
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            return actual != null && pattern.matcher(actual).find();
+        }
+    }
+
+    static class JsonMatcher implements FieldMatcher {
+
+        private final JsonNode expected;
+        private final boolean partial;
+
+        JsonMatcher(JsonNode expected, boolean partial) {
+            this.expected = expected;
+            this.partial = partial;
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            final JsonNode actualNode = readJsonOrNull(actual);
+            if (actualNode == null) {
+                return false;
+            }
+            return partial ? containsPartially(actualNode, expected) : equal(expected, actualNode);
+        }
+
+        // Numbers are compared by value, as 1 and 1.0 are the same number in JSON
+        private static boolean equal(JsonNode expected, JsonNode actual) {
+            if (expected.isNumber() && actual.isNumber()) {
+                return expected.decimalValue().compareTo(actual.decimalValue()) == 0;
+            }
+            if (expected.isObject() && actual.isObject()) {
+                if (expected.size() != actual.size()) {
+                    return false;
+                }
+                final Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    final JsonNode actualValue = actual.get(field.getKey());
+                    if (actualValue == null || !equal(field.getValue(), actualValue)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (expected.isArray() && actual.isArray()) {
+                if (expected.size() != actual.size()) {
+                    return false;
+                }
+                for (int i = 0; i < expected.size(); i++) {
+                    if (!equal(expected.get(i), actual.get(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return expected.equals(actual);
+        }
+
+        // Every field of an expected object must be in the actual object, and every element of an expected array in the actual array
+        private static boolean containsPartially(JsonNode actual, JsonNode expected) {
+            if (expected.isObject() && actual.isObject()) {
+                final Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    final JsonNode actualValue = actual.get(field.getKey());
+                    if (actualValue == null || !containsPartially(actualValue, field.getValue())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (expected.isArray() && actual.isArray()) {
+                for (JsonNode expectedElement : expected) {
+                    boolean found = false;
+                    for (JsonNode actualElement : actual) {
+                        if (containsPartially(actualElement, expectedElement)) {
+                            found = true;
+                            break;
+                        }
+                    }
+                    if (!found) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return equal(expected, actual);
+        }
+    }
+
+    static class JsonPathMatcher implements FieldMatcher {
+
+        private final JsonPath jsonPath;
+
+        JsonPathMatcher(JsonPath jsonPath) {
+            this.jsonPath = jsonPath;
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            final JsonNode actualNode = readJsonOrNull(actual);
+            return actualNode != null && !jsonPath.evaluate(actualNode).isEmpty();
+        }
+    }
+
+    static class XmlMatcher implements FieldMatcher {
+
+        private final Document expected;
+
+        XmlMatcher(Document expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            final Document actualDocument = readXmlOrNull(actual);
+            if (actualDocument == null) {
+                return false;
+            }
+            synchronized (expected) {
+                return expected.isEqualNode(actualDocument);
+            }
+        }
+    }
+
+    /**
+     * Matches when the expression selects at least one node, or evaluates to true
+     */
+    static class XpathMatcher implements FieldMatcher {
+
+        // XPathExpression is not thread safe
+        private final XPathExpression expression;
+
+        XpathMatcher(String expression) {
+            try {
+                this.expression = XPathFactory.newInstance().newXPath().compile(expression);
+            } catch (XPathExpressionException e) {
+                throw new IllegalArgumentException("Invalid XPath expression: " + expression, e);
+            }
+        }
+
+        @Override
+        public boolean matches(String actual) {
+            final Document actualDocument = readXmlOrNull(actual);
+            if (actualDocument == null) {
+                return false;
+            }
+            synchronized (expression) {
+                try {
+                    final NodeList nodes = (NodeList) expression.evaluate(actualDocument, XPathConstants.NODESET);
+                    return nodes.getLength() > 0;
+                } catch (XPathExpressionException e) {
+                    // Not a node set, such as a comparison
+                    try {
+                        return (Boolean) expression.evaluate(actualDocument, XPathConstants.BOOLEAN);
+                    } catch (XPathExpressionException ignored) {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Joins the values of a multi-valued field the way Hoverfly does before matching them
+     */
+    static String join(List<String> values) {
+        return values == null ? null : String.join(";", values);
+    }
+
+    static List<FieldMatcher> compileAll(List<RequestFieldMatcher> requestFieldMatchers) {
+        if (requestFieldMatchers == null) {
+            return Collections.emptyList();
+        }
+        final List<FieldMatcher> compiled = new ArrayList<>(requestFieldMatchers.size());
+        for (RequestFieldMatcher<?> requestFieldMatcher : requestFieldMatchers) {
+            compiled.add(compile(requestFieldMatcher));
+        }
+        return compiled;
+    }
+}
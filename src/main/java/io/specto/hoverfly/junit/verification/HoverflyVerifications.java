@@ -3,6 +3,9 @@ package io.specto.hoverfly.junit.verification;
 import io.specto.hoverfly.junit.core.model.Request;
 import org.apache.commons.lang3.StringUtils;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+
 public class HoverflyVerifications {
 
     private HoverflyVerifications() {
@@ -43,6 +46,37 @@ public class HoverflyVerifications {
         return atLeast(1);
     }
 
+    /**
+     * Verifies that the given percentage of the matching requests took at most the given latency in Hoverfly, for
+     * example that the p99 latency of the requests to a service is below 20 ms
+     * @param percentile the percentile between 0 and 100, such as 99
+     * @param maxLatency the maximum latency at the percentile
+     * @return the verification criteria
+     */
+    public static VerificationCriteria latencyAtPercentile(double percentile, Duration maxLatency) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        return (request, data) -> {
+            getActualNumberOfRequests(data);
+            final LatencyStatistics statistics = JournalStatistics.of(data.getJournal().getEntries().stream()).getOverall();
+            if (statistics.getCount() == 0) {
+                throw new HoverflyVerificationError("Expected requests with latencies to verify, but no request was found for:"
+                        + System.lineSeparator() + request);
+            }
+            final Duration actualLatency = statistics.getPercentile(percentile);
+            if (actualLatency.compareTo(maxLatency) > 0) {
+                throw new HoverflyVerificationError(String.format("Expected p%s latency of at most %s for requests:%n%s%n%nBut actual p%s latency is %s (%s).",
+                        formatPercentile(percentile), LatencyStatistics.format(maxLatency), request,
+                        formatPercentile(percentile), LatencyStatistics.format(actualLatency), statistics));
+            }
+        };
+    }
+
+    private static String formatPercentile(double percentile) {
+        return BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+
     private static int getActualNumberOfRequests(VerificationData data) {
         if (data == null || data.getJournal() == null || data.getJournal().getEntries() == null) {
             throw new HoverflyVerificationError("Failed to get journal for verification.");
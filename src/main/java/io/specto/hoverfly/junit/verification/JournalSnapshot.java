@@ -0,0 +1,72 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.dsl.RequestMatcherBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+
+/**
+ * A copy of the journal that is searched in the JVM. The journal is fetched from Hoverfly once, then any number of
+ * requests can be verified against it without calling Hoverfly again. Requests are matched with the same matchers
+ * as Hoverfly uses, apart from state requirements, which are not recorded in the journal.
+ */
+public class JournalSnapshot {
+
+    static final int PAGE_SIZE = 500;
+
+    private final List<JournalEntry> entries;
+
+    private JournalSnapshot(List<JournalEntry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public static JournalSnapshot of(Journal journal) {
+        if (journal == null || journal.getEntries() == null) {
+            return new JournalSnapshot(Collections.emptyList());
+        }
+        return new JournalSnapshot(journal.getEntries());
+    }
+
+    /**
+     * Fetches the whole journal from Hoverfly, one page at a time
+     */
+    public static JournalSnapshot fetch(HoverflyClient hoverflyClient) {
+        try (Stream<JournalEntry> journal = hoverflyClient.streamJournal(PAGE_SIZE)) {
+            return new JournalSnapshot(journal.collect(Collectors.toList()));
+        }
+    }
+
+    public List<JournalEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Finds the entries that match a request
+     *
+     * @throws IllegalArgumentException if the request has a matcher that is not valid
+     */
+    public Journal search(Request request) {
+        final LocalRequestMatcher matcher = new LocalRequestMatcher(request);
+        final List<JournalEntry> matches = entries.stream()
+                .filter(entry -> matcher.matches(entry.getRequest()))
+                .collect(Collectors.toList());
+        return new Journal(matches, 0, matches.size(), matches.size());
+    }
+
+    public void verify(RequestMatcherBuilder requestMatcher, VerificationCriteria criteria) {
+        final Request request = requestMatcher.build();
+        criteria.verify(request, new VerificationData(search(request)));
+    }
+
+    public void verify(RequestMatcherBuilder requestMatcher) {
+        verify(requestMatcher, times(1));
+    }
+}
@@ -0,0 +1,168 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Latency statistics of the requests in the journal, grouped by destination, method and path template. The journal is
+ * read one entry at a time, so only the histograms are kept in memory whatever the size of the journal.
+ * <p>
+ * By default, path segments that are numbers, UUIDs or long hexadecimal strings are replaced by {@code {id}}, so that
+ * {@code /api/bookings/1} and {@code /api/bookings/2} are in the same group.
+ */
+public class JournalStatistics {
+
+    static final int PAGE_SIZE = 500;
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "(?<=/)(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,})(?=/|$)");
+
+    private final Map<RequestGroup, LatencyStatistics> groups;
+
+    private JournalStatistics(Map<RequestGroup, LatencyStatistics> groups) {
+        this.groups = Collections.unmodifiableMap(groups);
+    }
+
+    public static JournalStatistics of(Stream<JournalEntry> entries) {
+        return of(entries, JournalStatistics::defaultPathTemplate);
+    }
+
+    /**
+     * Builds the statistics of the entries
+     * @param entries the journal entries
+     * @param pathTemplate maps the path of a request to the path template of its group
+     * @return the statistics
+     */
+    public static JournalStatistics of(Stream<JournalEntry> entries, Function<String, String> pathTemplate) {
+        final Map<RequestGroup, LatencyStatistics> groups = new LinkedHashMap<>();
+        entries.forEach(entry -> {
+            final RequestDetails request = entry.getRequest();
+            final RequestGroup group = request == null ? new RequestGroup(null, null, null)
+                    : new RequestGroup(request.getDestination(), request.getMethod(), pathTemplate.apply(request.getPath()));
+            groups.computeIfAbsent(group, g -> new LatencyStatistics()).record(entry);
+        });
+        return new JournalStatistics(groups);
+    }
+
+    /**
+     * Streams the whole journal from Hoverfly to build its statistics
+     * @param hoverflyClient the client of the Hoverfly
+     * @return the statistics
+     */
+    public static JournalStatistics fetch(HoverflyClient hoverflyClient) {
+        try (Stream<JournalEntry> entries = hoverflyClient.streamJournal(PAGE_SIZE)) {
+            return of(entries);
+        }
+    }
+
+    public Map<RequestGroup, LatencyStatistics> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @return the statistics of all the requests
+     */
+    public LatencyStatistics getOverall() {
+        return merge(group -> true);
+    }
+
+    /**
+     * @param destination the destination, such as {@code payments.svc}
+     * @return the statistics of the requests to a destination
+     */
+    public LatencyStatistics forDestination(String destination) {
+        return merge(group -> Objects.equals(group.getDestination(), destination));
+    }
+
+    /**
+     * @param destination the destination, such as {@code payments.svc}
+     * @param method the method, such as {@code GET}
+     * @param pathTemplate the path template, such as {@code /api/bookings/{id}}
+     * @return the statistics of the requests in a group, which are empty if there were no such requests
+     */
+    public LatencyStatistics forGroup(String destination, String method, String pathTemplate) {
+        return merge(new RequestGroup(destination, method, pathTemplate)::equals);
+    }
+
+    private LatencyStatistics merge(Predicate<RequestGroup> filter) {
+        final LatencyStatistics merged = new LatencyStatistics();
+        groups.forEach((group, statistics) -> {
+            if (filter.test(group)) {
+                merged.add(statistics);
+            }
+        });
+        return merged;
+    }
+
+    static String defaultPathTemplate(String path) {
+        return path == null ? null : ID_SEGMENT.matcher(path).replaceAll("{id}");
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        groups.forEach((group, statistics) -> sb.append(group).append(": ").append(statistics).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    /**
+     * The requests to the same destination, with the same method and path template
+     */
+    public static class RequestGroup {
+
+        private final String destination;
+        private final String method;
+        private final String pathTemplate;
+
+        public RequestGroup(String destination, String method, String pathTemplate) {
+            this.destination = destination;
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+        }
+
+        public String getDestination() {
+            return destination;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPathTemplate() {
+            return pathTemplate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final RequestGroup that = (RequestGroup) o;
+            return Objects.equals(destination, that.destination)
+                    && Objects.equals(method, that.method)
+                    && Objects.equals(pathTemplate, that.pathTemplate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(destination, method, pathTemplate);
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + destination + pathTemplate;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package io.specto.hoverfly.junit.verification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A compiled JSONPath expression. The subset of JSONPath that is used to match requests is supported: the root {@code $},
+ * child keys {@code .key} and {@code ['key']}, array indexes {@code [0]}, wildcards {@code .*} and {@code [*]}, deep
+ * scans {@code ..key}, and filters {@code [?(@.key)]} and {@code [?(@.key == 'value')]} with the usual comparison operators.
+ */
+final class JsonPath {
+
+    private final String expression;
+    private final List<Step> steps;
+
+    private JsonPath(String expression, List<Step> steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the expression is not valid or not supported
+     */
+    static JsonPath compile(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("JSONPath expression cannot be null.");
+        }
+        return new JsonPath(expression, new Parser(expression.trim()).parsePath(true));
+    }
+
+    /**
+     * Returns the nodes selected by the expression, which is empty if nothing is selected
+     */
+    List<JsonNode> evaluate(JsonNode root) {
+        List<JsonNode> nodes = Collections.singletonList(root);
+        for (Step step : steps) {
+            if (nodes.isEmpty()) {
+                break;
+            }
+            final List<JsonNode> selected = new ArrayList<>();
+            for (JsonNode node : nodes) {
+                step.select(node, selected);
+            }
+            nodes = selected;
+        }
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    @FunctionalInterface
+    private interface Step {
+
+        void select(JsonNode node, List<JsonNode> selected);
+    }
+
+    private static Step child(String key) {
+        return (node, selected) -> {
+            final JsonNode child = node.isObject() ? node.get(key) : null;
+            if (child != null) {
+                selected.add(child);
+            }
+        };
+    }
+
+    private static Step index(int index) {
+        return (node, selected) -> {
+            if (node.isArray()) {
+                final JsonNode element = node.get(index < 0 ? node.size() + index : index);
+                if (element != null) {
+                    selected.add(element);
+                }
+            }
+        };
+    }
+
+    private static Step wildcard() {
+        return (node, selected) -> {
+            if (node.isContainerNode()) {
+                node.elements().forEachRemaining(selected::add);
+            }
+        };
+    }
+
+    private static Step deepScan(Step step) {
+        return new Step() {
+            @Override
+            public void select(JsonNode node, List<JsonNode> selected) {
+                step.select(node, selected);
+                if (node.isContainerNode()) {
+                    final Iterator<JsonNode> elements = node.elements();
+                    while (elements.hasNext()) {
+                        select(elements.next(), selected);
+                    }
+                }
+            }
+        };
+    }
+
+    private static Step filter(List<Step> path, String operator, JsonNode literal) {
+        final JsonPath relativePath = new JsonPath("@", path);
+        return (node, selected) -> {
+            if (!node.isContainerNode()) {
+                return;
+            }
+            final Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext()) {
+                final JsonNode element = elements.next();
+                final List<JsonNode> values = relativePath.evaluate(element);
+                if (operator == null ? !values.isEmpty() : values.stream().anyMatch(value -> compare(value, operator, literal))) {
+                    selected.add(element);
+                }
+            }
+        };
+    }
+
+    private static boolean compare(JsonNode value, String operator, JsonNode literal) {
+        final int comparison;
+        if (value.isNumber() && literal.isNumber()) {
+            comparison = value.decimalValue().compareTo(literal.decimalValue());
+        } else if (value.isTextual() && literal.isTextual()) {
+            comparison = value.textValue().compareTo(literal.textValue());
+        } else {
+            final boolean equal = value.equals(literal);
+            return "==".equals(operator) ? equal : "!=".equals(operator) && !equal;
+        }
+        switch (operator) {
+            case "==":
+                return comparison == 0;
+            case "!=":
+                return comparison != 0;
+            case "<":
+                return comparison < 0;
+            case "<=":
+                return comparison <= 0;
+            case ">":
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    private static class Parser {
+
+        private final String expression;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        private List<Step> parsePath(boolean absolute) {
+            expect(absolute ? '$' : '@');
+            final List<Step> steps = new ArrayList<>();
+            while (position < expression.length()) {
+                final char c = expression.charAt(position);
+                if (c == '.') {
+                    position++;
+                    if (peek('.')) {
+                        position++;
+                        steps.add(deepScan(parseDotSelector()));
+                    } else {
+                        steps.add(parseDotSelector());
+                    }
+                } else if (c == '[') {
+                    steps.add(parseBracketSelector());
+                } else if (absolute) {
+                    throw invalid();
+                } else {
+                    break;
+                }
+            }
+            return steps;
+        }
+
+        private Step parseDotSelector() {
+            if (peek('*')) {
+                position++;
+                return wildcard();
+            }
+            if (peek('[')) {
+                return parseBracketSelector();
+            }
+            final int start = position;
+            while (position < expression.length() && isKeyCharacter(expression.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw invalid();
+            }
+            return child(expression.substring(start, position));
+        }
+
+        private Step parseBracketSelector() {
+            expect('[');
+            skipWhitespace();
+            final Step step;
+            if (peek('*')) {
+                position++;
+                step = wildcard();
+            } else if (peek('\'') || peek('"')) {
+                step = child(parseQuoted());
+            } else if (peek('?')) {
+                position++;
+                step = parseFilter();
+            } else {
+                step = index(parseInteger());
+            }
+            skipWhitespace();
+            expect(']');
+            return step;
+        }
+
+        private Step parseFilter() {
+            expect('(');
+            skipWhitespace();
+            final List<Step> path = parsePath(false);
+            skipWhitespace();
+            String operator = null;
+            JsonNode literal = null;
+            if (!peek(')')) {
+                operator = parseOperator();
+                skipWhitespace();
+                literal = parseLiteral();
+                skipWhitespace();
+            }
+            expect(')');
+            return filter(path, operator, literal);
+        }
+
+        private String parseOperator() {
+            for (String operator : new String[]{"==", "!=", "<=", ">=", "<", ">"}) {
+                if (expression.startsWith(operator, position)) {
+                    position += operator.length();
+                    return operator;
+                }
+            }
+            throw invalid();
+        }
+
+        private JsonNode parseLiteral() {
+            if (peek('\'') || peek('"')) {
+                return TextNode.valueOf(parseQuoted());
+            }
+            for (String keyword : new String[]{"true", "false", "null"}) {
+                if (expression.startsWith(keyword, position)) {
+                    position += keyword.length();
+                    return "null".equals(keyword) ? NullNode.getInstance() : BooleanNode.valueOf(Boolean.parseBoolean(keyword));
+                }
+            }
+            final int start = position;
+            while (position < expression.length() && "+-.eE0123456789".indexOf(expression.charAt(position)) >= 0) {
+                position++;
+            }
+            try {
+                return DecimalNode.valueOf(new BigDecimal(expression.substring(start, position)));
+            } catch (NumberFormatException e) {
+                throw invalid();
+            }
+        }
+
+        private String parseQuoted() {
+            final char quote = expression.charAt(position++);
+            final StringBuilder sb = new StringBuilder();
+            while (position < expression.length() && expression.charAt(position) != quote) {
+                char c = expression.charAt(position++);
+                if (c == '\\' && position < expression.length()) {
+                    c = expression.charAt(position++);
+                }
+                sb.append(c);
+            }
+            expect(quote);
+            return sb.toString();
+        }
+
+        private int parseInteger() {
+            final int start = position;
+            if (peek('-')) {
+                position++;
+            }
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            try {
+                return Integer.parseInt(expression.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw invalid();
+            }
+        }
+
+        private static boolean isKeyCharacter(char c) {
+            return c != '.' && c != '[' && c != ']' && c != '(' && c != ')' && c != ' ' && !isOperatorCharacter(c);
+        }
+
+        private static boolean isOperatorCharacter(char c) {
+            return c == '=' || c == '!' || c == '<' || c == '>';
+        }
+
+        private boolean peek(char c) {
+            return position < expression.length() && expression.charAt(position) == c;
+        }
+
+        private void expect(char c) {
+            if (!peek(c)) {
+                throw invalid();
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException invalid() {
+            return new IllegalArgumentException("Unsupported JSONPath expression: " + expression);
+        }
+    }
+}
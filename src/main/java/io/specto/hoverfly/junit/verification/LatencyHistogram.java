@@ -0,0 +1,106 @@
+package io.specto.hoverfly.junit.verification;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of latencies in microseconds with log-linear buckets, in the style of HdrHistogram. Values below
+ * {@value #LINEAR_LIMIT} microseconds are counted exactly, and larger values in buckets that are less than 1% wide,
+ * so that percentiles are accurate to within 1% whatever the range of the latencies, in a few kilobytes of memory.
+ */
+class LatencyHistogram {
+
+    // Each power of two is divided in 128 buckets
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT;
+
+    private long[] counts = new long[LINEAR_LIMIT];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    void record(long valueMicros) {
+        final long value = Math.max(0, valueMicros);
+        final int index = indexOf(value);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + SUB_BUCKET_COUNT));
+        }
+        counts[index]++;
+        totalCount++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sum += value;
+    }
+
+    void add(LatencyHistogram other) {
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sum += other.sum;
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    long getMax() {
+        return max;
+    }
+
+    double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Returns the value that the given percentage of the values are less than or equal to, which is the highest value
+     * of the bucket that the percentile falls in, and never more than the maximum
+     */
+    long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= countAtPercentile) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        // Keep the top bits of the value, which are between SUB_BUCKET_COUNT and LINEAR_LIMIT
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (subBucket - SUB_BUCKET_COUNT);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        final int offset = index - LINEAR_LIMIT;
+        final int shift = offset / SUB_BUCKET_COUNT + 1;
+        final long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,116 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * Latency percentiles and throughput of a group of journal entries. Percentiles are accurate to within 1%.
+ */
+public class LatencyStatistics {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private ZonedDateTime firstStarted;
+    private ZonedDateTime lastStarted;
+
+    LatencyStatistics() {
+    }
+
+    void record(JournalEntry entry) {
+        if (entry.getLatency() != null) {
+            // Hoverfly records the latency in milliseconds
+            histogram.record(Math.round(entry.getLatency() * 1000));
+        }
+        final ZonedDateTime timeStarted = entry.getTimeStarted();
+        if (timeStarted != null) {
+            if (firstStarted == null || timeStarted.isBefore(firstStarted)) {
+                firstStarted = timeStarted;
+            }
+            if (lastStarted == null || timeStarted.isAfter(lastStarted)) {
+                lastStarted = timeStarted;
+            }
+        }
+    }
+
+    void add(LatencyStatistics other) {
+        histogram.add(other.histogram);
+        if (other.firstStarted != null && (firstStarted == null || other.firstStarted.isBefore(firstStarted))) {
+            firstStarted = other.firstStarted;
+        }
+        if (other.lastStarted != null && (lastStarted == null || other.lastStarted.isAfter(lastStarted))) {
+            lastStarted = other.lastStarted;
+        }
+    }
+
+    /**
+     * @return the number of requests with a recorded latency
+     */
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public Duration getMin() {
+        return toDuration(histogram.getMin());
+    }
+
+    public Duration getMax() {
+        return toDuration(histogram.getMax());
+    }
+
+    public Duration getMean() {
+        return toDuration(Math.round(histogram.getMean()));
+    }
+
+    /**
+     * Gets the latency that the given percentage of requests took at most
+     * @param percentile the percentile between 0 and 100, such as 99.9
+     * @return the latency at the percentile, or zero if there were no requests
+     */
+    public Duration getPercentile(double percentile) {
+        return toDuration(histogram.getValueAtPercentile(percentile));
+    }
+
+    public Duration getP50() {
+        return getPercentile(50);
+    }
+
+    public Duration getP90() {
+        return getPercentile(90);
+    }
+
+    public Duration getP99() {
+        return getPercentile(99);
+    }
+
+    public Duration getP999() {
+        return getPercentile(99.9);
+    }
+
+    /**
+     * Gets the average number of requests started per second, between the first and the last request
+     * @return the throughput, or the number of requests if they all started within the same second
+     */
+    public double getThroughputPerSecond() {
+        if (firstStarted == null) {
+            return 0;
+        }
+        final double seconds = Duration.between(firstStarted, lastStarted).toNanos() / 1e9;
+        return seconds < 1 ? histogram.getTotalCount() : histogram.getTotalCount() / seconds;
+    }
+
+    private static Duration toDuration(long micros) {
+        return Duration.ofNanos(micros * 1000);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%s, p90=%s, p99=%s, p999=%s, max=%s, throughput=%.1f/s",
+                getCount(), format(getP50()), format(getP90()), format(getP99()), format(getP999()), format(getMax()),
+                getThroughputPerSecond());
+    }
+
+    static String format(Duration duration) {
+        return String.format("%.3f ms", duration.toNanos() / 1e6);
+    }
+}
@@ -0,0 +1,128 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A {@link Request} compiled to match the requests in the journal without calling Hoverfly. A request matches when
+ * every field matcher matches. State requirements are not part of the journal, so they are not matched.
+ * <p>
+ * This is also used by the embedded Hoverfly to match requests against a simulation.
+ */
+public class LocalRequestMatcher {
+
+    private final List<FieldMatcher> scheme;
+    private final List<FieldMatcher> destination;
+    private final List<FieldMatcher> path;
+    private final List<FieldMatcher> method;
+    private final List<FieldMatcher> body;
+    private final List<FieldMatcher> deprecatedQuery;
+    private final Map<String, List<FieldMatcher>> query;
+    private final Map<String, List<FieldMatcher>> headers;
+
+    public LocalRequestMatcher(Request request) {
+        this.scheme = FieldMatchers.compileAll(request.getScheme());
+        this.destination = FieldMatchers.compileAll(request.getDestination());
+        this.path = FieldMatchers.compileAll(request.getPath());
+        this.method = FieldMatchers.compileAll(request.getMethod());
+        this.body = FieldMatchers.compileAll(request.getBody());
+        this.deprecatedQuery = FieldMatchers.compileAll(request.getDeprecatedQuery());
+        // No query matchers match any query, while an empty map of matchers only matches a request without a query
+        this.query = request.getQuery() == null ? null : compileAll(request.getQuery(), new LinkedHashMap<>());
+        // Header names are case insensitive
+        this.headers = compileAll(request.getHeaders(), new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    public boolean matches(RequestDetails requestDetails) {
+        if (requestDetails == null) {
+            return false;
+        }
+        return matchesAll(scheme, requestDetails.getScheme())
+                && matchesAll(destination, requestDetails.getDestination())
+                && matchesAll(path, requestDetails.getPath())
+                && matchesAll(method, requestDetails.getMethod())
+                && matchesAll(body, requestDetails.getBody() == null ? "" : requestDetails.getBody())
+                && matchesAll(deprecatedQuery, requestDetails.getQuery() == null ? "" : requestDetails.getQuery())
+                && matchesQuery(requestDetails.getQuery())
+                && matchesAll(headers, headers.isEmpty() ? Collections.emptyMap() : caseInsensitive(requestDetails.getHeaders()));
+    }
+
+    private boolean matchesQuery(String actual) {
+        if (query == null) {
+            return true;
+        }
+        final Map<String, List<String>> params = parseQuery(actual);
+        return params.size() == query.size() && matchesAll(query, params);
+    }
+
+    private static Map<String, List<FieldMatcher>> compileAll(Map<String, List<RequestFieldMatcher>> requestFieldMatchers,
+                                                              Map<String, List<FieldMatcher>> compiled) {
+        if (requestFieldMatchers != null) {
+            requestFieldMatchers.forEach((key, matchers) -> compiled.put(key, FieldMatchers.compileAll(matchers)));
+        }
+        return compiled;
+    }
+
+    private static boolean matchesAll(List<FieldMatcher> matchers, String actual) {
+        for (FieldMatcher matcher : matchers) {
+            if (!matcher.matches(actual)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAll(Map<String, List<FieldMatcher>> matchers, Map<String, List<String>> actual) {
+        for (Map.Entry<String, List<FieldMatcher>> entry : matchers.entrySet()) {
+            final List<String> values = actual.get(entry.getKey());
+            if (values == null || !matchesAll(entry.getValue(), FieldMatchers.join(values))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, List<String>> caseInsensitive(Map<String, List<String>> headers) {
+        final Map<String, List<String>> caseInsensitiveHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            headers.forEach((name, values) ->
+                    caseInsensitiveHeaders.computeIfAbsent(name, k -> new ArrayList<>()).addAll(values));
+        }
+        return caseInsensitiveHeaders;
+    }
+
+    static Map<String, List<String>> parseQuery(String query) {
+        final Map<String, List<String>> params = new LinkedHashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            final int separator = param.indexOf('=');
+            final String key = decode(separator < 0 ? param : param.substring(0, separator));
+            final String value = separator < 0 ? "" : decode(param.substring(separator + 1));
+            params.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        return params;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
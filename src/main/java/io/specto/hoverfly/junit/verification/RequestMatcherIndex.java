@@ -0,0 +1,252 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher.MatcherType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * An index of {@link Request} matchers that finds the ones matching a request without trying each of them. Matchers are
+ * grouped by their exact method, scheme and destination, and within a group by their exact path, or by the literal
+ * prefix of a glob or anchored regex path in a trie. Only the matchers that cannot be narrowed down this way, such as
+ * unanchored regex or JSON path matchers, are tried for every request. The candidates are then matched with a
+ * {@link LocalRequestMatcher}.
+ * <p>
+ * Matchers can be added at any time, and results are returned in the order they were added. The index is not safe
+ * for adding matchers concurrently with finding them, but once built it can be shared between threads.
+ *
+ * @param <T> the type of the values that the matchers are indexed with
+ */
+public class RequestMatcherIndex<T> {
+
+    private static final Comparator<Entry<?>> INSERTION_ORDER = Comparator.comparingInt(entry -> entry.id);
+
+    // Keyed by method, scheme and destination in turn, where a null key holds the matchers that accept any value
+    private final Map<String, Map<String, Map<String, Bucket<T>>>> buckets = new HashMap<>();
+    private int size;
+
+    /**
+     * Adds a request matcher to the index
+     *
+     * @throws IllegalArgumentException if the request has a matcher that is not valid
+     */
+    public void add(Request request, T value) {
+        final Entry<T> entry = new Entry<>(size++, new LocalRequestMatcher(request), value);
+        buckets.computeIfAbsent(exactValue(request.getMethod()), k -> new HashMap<>())
+                .computeIfAbsent(exactValue(request.getScheme()), k -> new HashMap<>())
+                .computeIfAbsent(exactValue(request.getDestination()), k -> new Bucket<>())
+                .add(request.getPath(), entry);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the values of all the request matchers that match a request, in the order they were added
+     */
+    public List<T> findAll(RequestDetails request) {
+        final List<T> matches = new ArrayList<>();
+        for (Entry<T> candidate : candidates(request)) {
+            if (candidate.matcher.matches(request)) {
+                matches.add(candidate.value);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the value of the first request matcher added that matches a request and whose value is accepted by the
+     * filter, or null if there is none
+     */
+    public T findFirst(RequestDetails request, Predicate<? super T> filter) {
+        for (Entry<T> candidate : candidates(request)) {
+            if (filter.test(candidate.value) && candidate.matcher.matches(request)) {
+                return candidate.value;
+            }
+        }
+        return null;
+    }
+
+    private List<Entry<T>> candidates(RequestDetails request) {
+        final List<Entry<T>> candidates = new ArrayList<>();
+        if (request == null) {
+            return candidates;
+        }
+        final String path = request.getPath() == null ? "" : request.getPath();
+        for (Map<String, Map<String, Bucket<T>>> byScheme : lookup(buckets, request.getMethod())) {
+            for (Map<String, Bucket<T>> byDestination : lookup(byScheme, request.getScheme())) {
+                for (Bucket<T> bucket : lookup(byDestination, request.getDestination())) {
+                    bucket.collect(path, candidates);
+                }
+            }
+        }
+        candidates.sort(INSERTION_ORDER);
+        return candidates;
+    }
+
+    private static <V> List<V> lookup(Map<String, V> map, String key) {
+        final List<V> values = new ArrayList<>(2);
+        if (key != null) {
+            final V exact = map.get(key);
+            if (exact != null) {
+                values.add(exact);
+            }
+        }
+        final V any = map.get(null);
+        if (any != null) {
+            values.add(any);
+        }
+        return values;
+    }
+
+    // A request only matches when every matcher matches, so any exact matcher determines the value
+    private static String exactValue(List<RequestFieldMatcher> matchers) {
+        if (matchers != null) {
+            for (RequestFieldMatcher<?> matcher : matchers) {
+                if (isLiteral(matcher)) {
+                    return (String) matcher.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLiteral(RequestFieldMatcher<?> matcher) {
+        if (!(matcher.getValue() instanceof String)) {
+            return false;
+        }
+        return matcher.getMatcher() == MatcherType.EXACT
+                || matcher.getMatcher() == MatcherType.GLOB && ((String) matcher.getValue()).indexOf('*') < 0;
+    }
+
+    private static class Entry<T> {
+
+        private final int id;
+        private final LocalRequestMatcher matcher;
+        private final T value;
+
+        private Entry(int id, LocalRequestMatcher matcher, T value) {
+            this.id = id;
+            this.matcher = matcher;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The matchers for one method, scheme and destination, indexed by their path
+     */
+    private static class Bucket<T> {
+
+        private static final String REGEX_SPECIAL_CHARACTERS = "\\.[]{}()*+?^$|";
+        private static final String QUANTIFIERS = "?*+{";
+
+        private final Map<String, List<Entry<T>>> exactPaths = new HashMap<>();
+        private final PrefixNode<T> pathPrefixes = new PrefixNode<>();
+        private final List<Entry<T>> others = new ArrayList<>();
+
+        private void add(List<RequestFieldMatcher> pathMatchers, Entry<T> entry) {
+            final String exactPath = exactValue(pathMatchers);
+            if (exactPath != null) {
+                exactPaths.computeIfAbsent(exactPath, k -> new ArrayList<>()).add(entry);
+                return;
+            }
+            final String pathPrefix = pathPrefix(pathMatchers);
+            if (pathPrefix != null) {
+                pathPrefixes.add(pathPrefix, entry);
+                return;
+            }
+            others.add(entry);
+        }
+
+        private void collect(String path, List<Entry<T>> candidates) {
+            final List<Entry<T>> exact = exactPaths.get(path);
+            if (exact != null) {
+                candidates.addAll(exact);
+            }
+            pathPrefixes.collect(path, candidates);
+            candidates.addAll(others);
+        }
+
+        // A path can only match if it starts with the literal prefix of a glob, or of a regex anchored to the start
+        private static String pathPrefix(List<RequestFieldMatcher> matchers) {
+            if (matchers != null) {
+                for (RequestFieldMatcher<?> matcher : matchers) {
+                    if (!(matcher.getValue() instanceof String)) {
+                        continue;
+                    }
+                    final String value = (String) matcher.getValue();
+                    if (matcher.getMatcher() == MatcherType.GLOB) {
+                        return value.substring(0, value.indexOf('*'));
+                    }
+                    if (matcher.getMatcher() == MatcherType.REGEX && value.startsWith("^") && value.indexOf('|') < 0) {
+                        return regexPrefix(value);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static String regexPrefix(String regex) {
+            final StringBuilder prefix = new StringBuilder();
+            int i = 1;
+            while (i < regex.length()) {
+                char c = regex.charAt(i);
+                int length = 1;
+                if (c == '\\') {
+                    // An escaped letter or digit is a character class, such as \d
+                    if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                        break;
+                    }
+                    c = regex.charAt(i + 1);
+                    length = 2;
+                } else if (REGEX_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                    break;
+                }
+                // A quantifier makes the character before it optional or repeated
+                if (i + length < regex.length() && QUANTIFIERS.indexOf(regex.charAt(i + length)) >= 0) {
+                    break;
+                }
+                prefix.append(c);
+                i += length;
+            }
+            return prefix.toString();
+        }
+    }
+
+    /**
+     * A trie of path prefixes, where each node holds the matchers for the prefix that leads to it
+     */
+    private static class PrefixNode<T> {
+
+        private final Map<Character, PrefixNode<T>> children = new HashMap<>();
+        private final List<Entry<T>> entries = new ArrayList<>();
+
+        private void add(String prefix, Entry<T> entry) {
+            PrefixNode<T> node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), k -> new PrefixNode<>());
+            }
+            node.entries.add(entry);
+        }
+
+        private void collect(String path, List<Entry<T>> candidates) {
+            PrefixNode<T> node = this;
+            candidates.addAll(node.entries);
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.get(path.charAt(i));
+                if (node == null) {
+                    return;
+                }
+                candidates.addAll(node.entries);
+            }
+        }
+    }
+}
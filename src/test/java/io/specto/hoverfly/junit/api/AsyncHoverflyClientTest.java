@@ -0,0 +1,109 @@
+package io.specto.hoverfly.junit.api;
+
+import io.specto.hoverfly.junit.core.SimulationSource;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AsyncHoverflyClientTest {
+
+    @Test
+    public void shouldQueueCallsOnConnectionPoolOfBuiltClient() {
+        HoverflyClient hoverflyClient = HoverflyClient.custom().build();
+
+        assertThat(AsyncHoverflyClient.from(hoverflyClient)).isInstanceOf(OkHttpAsyncHoverflyClient.class);
+    }
+
+    @Test
+    public void shouldCallOtherClientOnExecutor() throws Exception {
+        HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+        when(hoverflyClient.getHealth()).thenReturn(true);
+
+        AsyncHoverflyClient asyncClient = AsyncHoverflyClient.from(hoverflyClient);
+        asyncClient.deleteJournal().get(5, TimeUnit.SECONDS);
+
+        verify(hoverflyClient).deleteJournal();
+        assertThat(asyncClient.getHealth().get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldCompleteWithExceptionThrownByOtherClient() {
+        HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+        HoverflyClientException exception = new HoverflyClientException("Failed to delete states");
+        doThrow(exception).when(hoverflyClient).deleteState();
+
+        CompletableFuture<Void> future = AsyncHoverflyClient.from(hoverflyClient, Runnable::run).deleteState();
+
+        assertThat(catchThrowable(future::join)).hasCause(exception);
+    }
+
+    @Test
+    public void shouldFailWhenHoverflyIsNotReachable() throws Exception {
+        AsyncHoverflyClient asyncClient = AsyncHoverflyClient.from(HoverflyClient.custom().port(findUnusedPort()).build());
+
+        Throwable throwable = catchThrowable(() -> asyncClient.deleteJournal().get(5, TimeUnit.SECONDS));
+
+        assertThat(throwable).isInstanceOf(ExecutionException.class);
+        assertThat(throwable.getCause()).isInstanceOf(HoverflyClientException.class)
+                .hasMessageStartingWith("Failed to delete journal");
+        assertThat(asyncClient.getHealth().get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void shouldFailWithIllegalArgumentExceptionWhenSimulationSourceCannotBeRead() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            // Accepts connections but never responds, as the request body cannot be written anyway
+            AsyncHoverflyClient asyncClient = AsyncHoverflyClient.from(HoverflyClient.custom().port(serverSocket.getLocalPort()).build());
+
+            Throwable throwable = catchThrowable(() -> asyncClient.setSimulation(SimulationSource.classpath("missing-simulation.json")).get(5, TimeUnit.SECONDS));
+
+            assertThat(throwable).isInstanceOf(ExecutionException.class);
+            assertThat(throwable.getCause()).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Cannot load classpath resource: 'missing-simulation.json'");
+        }
+    }
+
+    @Test
+    public void shouldCompleteWithExceptionThrownBySimulationSource() throws Exception {
+        IllegalStateException exception = new IllegalStateException("Simulation source failed");
+        SimulationSource simulationSource = new SimulationSource() {
+            @Override
+            public String getSimulation() {
+                throw exception;
+            }
+
+            @Override
+            public void writeTo(WritableByteChannel channel) {
+                throw exception;
+            }
+        };
+
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            HoverflyClient hoverflyClient = HoverflyClient.custom().port(serverSocket.getLocalPort()).build();
+
+            Throwable throwable = catchThrowable(() -> AsyncHoverflyClient.from(hoverflyClient).setSimulation(simulationSource).get(5, TimeUnit.SECONDS));
+
+            assertThat(throwable).isInstanceOf(ExecutionException.class);
+            assertThat(throwable.getCause()).isSameAs(exception);
+            assertThat(catchThrowable(() -> hoverflyClient.setSimulation(simulationSource))).isSameAs(exception);
+        }
+    }
+
+    private static int findUnusedPort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+}
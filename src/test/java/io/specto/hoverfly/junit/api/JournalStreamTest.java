@@ -0,0 +1,148 @@
+package io.specto.hoverfly.junit.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.specto.hoverfly.junit.api.command.SortParams;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.Response;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JournalStreamTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<String> requestedPages = new CopyOnWriteArrayList<>();
+    private Server server;
+    private HoverflyClient client;
+    private int journalSize;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new Server(0);
+        server.setHandler(new JournalHandler());
+        server.start();
+        client = HoverflyClient.custom()
+                .port(((ServerConnector) server.getConnectors()[0]).getLocalPort())
+                .build();
+    }
+
+    @Test
+    public void shouldStreamAllEntriesOnePageAtATime() {
+        journalSize = 25;
+
+        List<String> paths;
+        try (Stream<JournalEntry> entries = client.streamJournal(10)) {
+            paths = entries.map(entry -> entry.getRequest().getPath()).collect(Collectors.toList());
+        }
+
+        assertThat(paths).hasSize(25).startsWith("/0", "/1").endsWith("/24");
+        assertThat(requestedPages).containsExactly("offset=0&limit=10", "offset=10&limit=10", "offset=20&limit=10");
+    }
+
+    @Test
+    public void shouldStreamEmptyJournal() {
+        journalSize = 0;
+
+        try (Stream<JournalEntry> entries = client.streamJournal(10)) {
+            assertThat(entries.count()).isZero();
+        }
+    }
+
+    @Test
+    public void shouldPassSortParams() {
+        journalSize = 5;
+
+        try (Stream<JournalEntry> entries = client.streamJournal(10, new SortParams("timeStarted", SortParams.Direction.DESC))) {
+            assertThat(entries.count()).isEqualTo(5);
+        }
+
+        assertThat(requestedPages).isNotEmpty().allMatch(page -> page.endsWith("&sort=timeStarted%3ADESC"));
+    }
+
+    @Test
+    public void shouldNotFetchPagesBeyondWhatIsConsumed() {
+        journalSize = 1000;
+
+        try (Stream<JournalEntry> entries = client.streamJournal(10)) {
+            assertThat(entries.limit(15).count()).isEqualTo(15);
+        }
+
+        // The second page is being read, and the third has been prefetched
+        assertThat(requestedPages.size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldStreamPagesFromLoader() {
+        List<Integer> offsets = new ArrayList<>();
+
+        long count = JournalStreams.paged(offset -> {
+            offsets.add(offset);
+            return createJournal(offset, 10, 25);
+        }, 10).count();
+
+        assertThat(count).isEqualTo(25);
+        assertThat(offsets).containsExactly(0, 10, 20);
+    }
+
+    @Test
+    public void shouldRejectPageSizeOfZero() {
+        assertThatThrownBy(() -> client.streamJournal(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be greater than zero.");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    private static Journal createJournal(int offset, int limit, int total) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = offset; i < Math.min(offset + limit, total); i++) {
+            RequestDetails request = new RequestDetails("http", "hoverfly.io", "/" + i, "", "", "GET", Collections.emptyMap());
+            Response response = new Response(200, "", false, false, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList());
+            entries.add(new JournalEntry(request, response, "simulate", ZonedDateTime.of(2019, 1, 1, 0, 0, i % 60, 0, ZoneOffset.UTC), 1.0));
+        }
+        return new Journal(entries, offset, limit, total);
+    }
+
+    private class JournalHandler extends AbstractHandler {
+
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            requestedPages.add(request.getQueryString());
+            int offset = Integer.parseInt(request.getParameter("offset"));
+            int limit = Integer.parseInt(request.getParameter("limit"));
+
+            response.setContentType("application/json");
+            OBJECT_MAPPER.writeValue(response.getOutputStream(), createJournal(offset, limit, journalSize));
+            baseRequest.setHandled(true);
+        }
+    }
+}
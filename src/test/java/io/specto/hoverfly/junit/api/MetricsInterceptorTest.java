@@ -0,0 +1,109 @@
+package io.specto.hoverfly.junit.api;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.specto.hoverfly.junit.core.SimulationSource;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
+import io.specto.hoverfly.junit.core.metrics.MicrometerHoverflyMetrics;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MetricsInterceptorTest {
+
+    private static final String SIMULATION = "{\"data\":{\"pairs\":[]},\"meta\":{\"schemaVersion\":\"v5\"}}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Server server;
+    private HoverflyClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new Server(0);
+        server.setHandler(new AdminApiHandler());
+        server.start();
+        client = HoverflyClient.custom()
+                .port(((ServerConnector) server.getConnectors()[0]).getLocalPort())
+                .metrics(new MicrometerHoverflyMetrics(registry))
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void shouldRecordTimeAndResponseSizeByEndpoint() {
+        client.getHealth();
+        client.getHealth();
+
+        assertThat(registry.get(HoverflyMetrics.ADMIN_REQUEST)
+                .tags("endpoint", "api/health", "method", "GET", "status", "200").timer().count()).isEqualTo(2);
+        assertThat(registry.get(HoverflyMetrics.ADMIN_RESPONSE_SIZE)
+                .tags("endpoint", "api/health", "method", "GET").summary().totalAmount()).isEqualTo(2 * "{\"message\":\"Hoverfly is healthy\"}".length());
+    }
+
+    @Test
+    public void shouldRecordRequestSizeOfSimulations() {
+        client.setSimulation(SIMULATION);
+        client.setSimulation(SimulationSource.inputStream(() -> new ByteArrayInputStream(SIMULATION.getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(registry.get(HoverflyMetrics.ADMIN_REQUEST_SIZE)
+                .tags("endpoint", "api/v2/simulation", "method", "PUT").summary().totalAmount()).isEqualTo(2 * SIMULATION.length());
+    }
+
+    @Test
+    public void shouldCountFailedResponses() {
+        assertThatThrownBy(() -> client.deleteJournal()).isInstanceOf(HoverflyClientException.class);
+
+        assertThat(registry.get(HoverflyMetrics.ADMIN_ERRORS)
+                .tags("endpoint", "api/v2/journal", "method", "DELETE", "error", "500").counter().count()).isEqualTo(1);
+        assertThat(registry.get(HoverflyMetrics.ADMIN_REQUEST)
+                .tags("endpoint", "api/v2/journal", "status", "500").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountConnectionFailures() throws Exception {
+        server.stop();
+
+        assertThat(client.getHealth()).isFalse();
+
+        assertThat(registry.get(HoverflyMetrics.ADMIN_ERRORS)
+                .tags("endpoint", "api/health", "error", "ConnectException").counter().count()).isEqualTo(1);
+    }
+
+    private static class AdminApiHandler extends AbstractHandler {
+
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            baseRequest.setHandled(true);
+            if (target.equals("/api/health")) {
+                response.setContentType("application/json");
+                byte[] body = "{\"message\":\"Hoverfly is healthy\"}".getBytes(StandardCharsets.UTF_8);
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+            } else if (target.equals("/api/v2/simulation")) {
+                while (request.getInputStream().read() != -1) {
+                    // Read the whole simulation
+                }
+                response.setContentLength(0);
+            } else {
+                response.setStatus(500);
+                response.setContentLength(0);
+            }
+        }
+    }
+}
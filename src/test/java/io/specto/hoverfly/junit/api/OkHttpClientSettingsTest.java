@@ -0,0 +1,59 @@
+package io.specto.hoverfly.junit.api;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OkHttpClientSettingsTest {
+
+    @Test
+    public void shouldShareHttpClientBetweenClientsWithSameSettings() {
+        HoverflyClient first = HoverflyClient.custom().port(8888).build();
+        HoverflyClient second = HoverflyClient.custom().host("remote.host").port(12345).build();
+
+        assertThat(getHttpClient(first)).isSameAs(getHttpClient(second));
+    }
+
+    @Test
+    public void shouldShareConnectionPoolAndDispatcherWithClientUsingAuthToken() {
+        OkHttpHoverflyClient client = new OkHttpHoverflyClient("http", "localhost", 8888, null);
+        OkHttpHoverflyClient clientWithAuthToken = new OkHttpHoverflyClient("http", "localhost", 8888, "some-token");
+
+        OkHttpClient httpClient = getHttpClient(client);
+        OkHttpClient httpClientWithAuthToken = getHttpClient(clientWithAuthToken);
+
+        assertThat(httpClientWithAuthToken).isNotSameAs(httpClient);
+        assertThat(httpClientWithAuthToken.connectionPool()).isSameAs(httpClient.connectionPool());
+        assertThat(httpClientWithAuthToken.dispatcher()).isSameAs(httpClient.dispatcher());
+        assertThat(httpClientWithAuthToken.interceptors()).hasAtLeastOneElementOfType(AuthHeaderInterceptor.class);
+    }
+
+    @Test
+    public void shouldApplyConnectionSettings() {
+        HoverflyClient client = HoverflyClient.custom()
+                .connectTimeout(1, TimeUnit.SECONDS)
+                .readTimeout(2, TimeUnit.SECONDS)
+                .writeTimeout(3, TimeUnit.SECONDS)
+                .connectionPool(2, 30, TimeUnit.SECONDS)
+                .maxRequestsPerHost(10)
+                .build();
+
+        OkHttpClient httpClient = getHttpClient(client);
+
+        assertThat(httpClient).isNotSameAs(getHttpClient(HoverflyClient.createDefault()));
+        assertThat(httpClient.connectTimeoutMillis()).isEqualTo(1000);
+        assertThat(httpClient.readTimeoutMillis()).isEqualTo(2000);
+        assertThat(httpClient.writeTimeoutMillis()).isEqualTo(3000);
+        assertThat(httpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(10);
+        assertThat(httpClient.protocols()).containsExactly(Protocol.HTTP_1_1);
+    }
+
+    private static OkHttpClient getHttpClient(HoverflyClient client) {
+        return Whitebox.getInternalState(client, "client");
+    }
+}
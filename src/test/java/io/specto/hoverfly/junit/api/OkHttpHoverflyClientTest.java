@@ -11,6 +11,7 @@ import io.specto.hoverfly.junit.api.model.ModeArguments;
 import io.specto.hoverfly.junit.api.view.HoverflyInfoView;
 import io.specto.hoverfly.junit.api.view.StateView;
 import io.specto.hoverfly.junit.core.Hoverfly;
+import io.specto.hoverfly.junit.core.SimulationSource;
 import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
 import io.specto.hoverfly.junit.core.model.Journal;
 import io.specto.hoverfly.junit.core.model.JournalEntry;
@@ -26,8 +27,13 @@ import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
 import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
@@ -167,6 +173,17 @@ public class OkHttpHoverflyClientTest {
         assertThat(objectMapper.treeToValue(simulation, Simulation.class)).isEqualTo(Simulation.newEmptyInstance());
     }
 
+    @Test
+    public void shouldBeAbleToStreamSimulationFromSource() throws Exception {
+        URL resource = Resources.getResource("simulations/v5-simulation.json");
+        Simulation expected = objectMapper.readValue(resource, Simulation.class);
+
+        client.setSimulation(SimulationSource.file(Paths.get(resource.toURI())));
+
+        Simulation result = client.getSimulation();
+        assertThat(result.getHoverflyData().getPairs()).isEqualTo(expected.getHoverflyData().getPairs());
+    }
+
     @Test
     public void shouldBeAbleToDeleteAllSimulation() throws Exception {
         URL resource = Resources.getResource("simulations/v5-simulation.json");
@@ -197,6 +214,35 @@ public class OkHttpHoverflyClientTest {
         assertThat(client.getJournal(0, 10).getTotal()).isZero();
     }
 
+    @Test
+    public void shouldBeAbleToDeleteJournalAsynchronously() throws Exception {
+
+        try {
+
+            RestTemplate restTemplate = new RestTemplate();
+            restTemplate.getForEntity("http://hoverfly.io", String.class);
+        } catch (Exception ignored) {
+            // Do nothing just to populate journal
+        }
+
+        AsyncHoverflyClient asyncClient = AsyncHoverflyClient.from(client);
+        CompletableFuture.allOf(asyncClient.deleteJournal(), asyncClient.deleteState()).get(5, TimeUnit.SECONDS);
+
+        assertThat(asyncClient.getJournal(0, 10).get(5, TimeUnit.SECONDS).getTotal()).isZero();
+    }
+
+    @Test
+    public void shouldBeAbleToSetSimulationAsynchronously() throws Exception {
+        URL resource = Resources.getResource("simulations/v5-simulation.json");
+        Simulation expected = objectMapper.readValue(resource, Simulation.class);
+
+        AsyncHoverflyClient asyncClient = AsyncHoverflyClient.from(client);
+        asyncClient.setSimulation(SimulationSource.file(Paths.get(resource.toURI()))).get(5, TimeUnit.SECONDS);
+
+        Simulation result = asyncClient.getSimulation().get(5, TimeUnit.SECONDS);
+        assertThat(result.getHoverflyData().getPairs()).isEqualTo(expected.getHoverflyData().getPairs());
+    }
+
     @Test
     public void shouldBeAbleToGetJournal() throws Exception {
 
@@ -216,6 +262,26 @@ public class OkHttpHoverflyClientTest {
         JSONAssert.assertEquals(expected, actual, JSONCompareMode.LENIENT);
     }
 
+    @Test
+    public void shouldBeAbleToStreamJournal() {
+
+        RestTemplate restTemplate = new RestTemplate();
+        for (int i = 0; i < 3; i++) {
+            try {
+                restTemplate.getForEntity("http://hoverfly.io", String.class);
+            } catch (Exception ignored) {
+                // Do nothing just to populate journal
+            }
+        }
+
+        try (Stream<JournalEntry> entries = client.streamJournal(2, new SortParams("timeStarted", SortParams.Direction.DESC))) {
+            List<JournalEntry> journalEntries = entries.collect(Collectors.toList());
+
+            assertThat(journalEntries).hasSize(3);
+            assertThat(journalEntries.get(0).getTimeStarted()).isAfter(journalEntries.get(2).getTimeStarted());
+        }
+    }
+
     @Test
     public void shouldBeAbleToGetJournalWithSortParams() {
 
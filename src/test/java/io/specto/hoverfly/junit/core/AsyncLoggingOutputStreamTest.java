@@ -0,0 +1,141 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.LogOverflowPolicy;
+import io.specto.hoverfly.junit.core.metrics.HoverflyMetrics;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncLoggingOutputStreamTest {
+
+    private static final String INFO_LINE = "{\"level\":\"info\",\"msg\":\"Proxy is listening\"}\n";
+    private static final String DEBUG_LINE = "{\"level\":\"debug\",\"msg\":\"Matching request\"}\n";
+
+    private final SlowOutputStream delegate = new SlowOutputStream();
+    private final AtomicInteger droppedCounter = new AtomicInteger();
+    private final HoverflyMetrics metrics = new HoverflyMetrics() {
+        @Override
+        public void incrementCounter(String name, String... tags) {
+            if (name.equals(HoverflyMetrics.LOG_DROPPED)) {
+                droppedCounter.incrementAndGet();
+            }
+        }
+    };
+    private AsyncLoggingOutputStream outputStream;
+
+    @After
+    public void tearDown() throws Exception {
+        delegate.release.countDown();
+        if (outputStream != null) {
+            outputStream.close();
+        }
+    }
+
+    @Test
+    public void shouldWriteLinesToDelegate() throws Exception {
+        outputStream = new AsyncLoggingOutputStream(delegate, 16, LogOverflowPolicy.BLOCK, metrics);
+        delegate.release.countDown();
+
+        write(INFO_LINE + DEBUG_LINE);
+        outputStream.close();
+
+        assertThat(delegate.written()).isEqualTo(INFO_LINE + DEBUG_LINE);
+    }
+
+    @Test
+    public void shouldWriteIncompleteLineOnClose() throws Exception {
+        outputStream = new AsyncLoggingOutputStream(delegate, 16, LogOverflowPolicy.BLOCK, metrics);
+        delegate.release.countDown();
+
+        write("panic: runtime error");
+        outputStream.close();
+
+        assertThat(delegate.written()).isEqualTo("panic: runtime error\n");
+    }
+
+    @Test
+    public void shouldDropDebugLinesWhenBufferIsFull() throws Exception {
+        outputStream = new AsyncLoggingOutputStream(delegate, 1, LogOverflowPolicy.DROP_DEBUG, metrics);
+        fillBuffer();
+
+        write(DEBUG_LINE + DEBUG_LINE);
+        delegate.release.countDown();
+        outputStream.close();
+
+        assertThat(outputStream.getDroppedLines()).isEqualTo(2);
+        assertThat(droppedCounter).hasValue(2);
+        assertThat(delegate.written()).isEqualTo(INFO_LINE + INFO_LINE);
+    }
+
+    @Test
+    public void shouldSampleLinesWhenBufferIsFull() throws Exception {
+        outputStream = new AsyncLoggingOutputStream(delegate, 1, LogOverflowPolicy.SAMPLE, metrics);
+        fillBuffer();
+
+        for (int i = 1; i < AsyncLoggingOutputStream.SAMPLE_RATE; i++) {
+            write(INFO_LINE);
+        }
+
+        assertThat(outputStream.getDroppedLines()).isEqualTo(AsyncLoggingOutputStream.SAMPLE_RATE - 1);
+    }
+
+    @Test(timeout = 5000)
+    public void shouldDropLinesWrittenAfterClose() throws Exception {
+        outputStream = new AsyncLoggingOutputStream(delegate, 1, LogOverflowPolicy.BLOCK, metrics);
+        delegate.release.countDown();
+        write(INFO_LINE);
+        outputStream.close();
+
+        write(INFO_LINE + INFO_LINE);
+
+        assertThat(outputStream.getDroppedLines()).isEqualTo(2);
+        assertThat(delegate.written()).isEqualTo(INFO_LINE);
+    }
+
+    // Blocks the writer thread on the first line, and queues a second line to fill a buffer of one line
+    private void fillBuffer() throws Exception {
+        write(INFO_LINE);
+        assertThat(delegate.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        write(INFO_LINE);
+    }
+
+    private void write(String text) throws Exception {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        outputStream.write(bytes, 0, bytes.length);
+    }
+
+    private static class SlowOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void write(int b) {
+            output.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            output.write(b, off, len);
+        }
+
+        private synchronized String written() {
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
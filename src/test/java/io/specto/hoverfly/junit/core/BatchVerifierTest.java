@@ -0,0 +1,121 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.AsyncHoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newExactMatcher;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchVerifierTest {
+
+    private final HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @Test
+    public void shouldPassWhenAllVerificationsPass() {
+        when(hoverflyClient.searchJournal(any())).thenReturn(journalWithEntries(1));
+
+        new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient, executor))
+                .verify(Arrays.asList(request("/one"), request("/two")), atLeastOnce());
+
+        verify(hoverflyClient, times(2)).searchJournal(any());
+    }
+
+    @Test
+    public void shouldReportSingleFailureWithItsOwnMessage() {
+        when(hoverflyClient.searchJournal(any())).thenReturn(journalWithEntries(0));
+
+        assertThatThrownBy(() -> new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient, executor))
+                .verify(singletonList(request("/one")), atLeastOnce()))
+                .hasMessageStartingWith("Expected at least 1 request:");
+    }
+
+    @Test
+    public void shouldReportAllFailuresInRequestOrder() {
+        Request one = request("/one");
+        Request two = request("/two");
+        Request three = request("/three");
+        when(hoverflyClient.searchJournal(one)).thenReturn(journalWithEntries(1));
+        when(hoverflyClient.searchJournal(two)).thenReturn(journalWithEntries(1));
+        when(hoverflyClient.searchJournal(three)).thenReturn(journalWithEntries(0));
+
+        assertThatThrownBy(() -> new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient, executor))
+                .verify(Arrays.asList(one, two, three), never()))
+                .hasMessageStartingWith("2 of 3 verifications failed:")
+                .hasMessageMatching("(?s).*1\\) Not expected any request.*/one.*2\\) Not expected any request.*/two.*")
+                .satisfies(e -> assertThat(e.getMessage()).doesNotContain("/three"));
+    }
+
+    @Test
+    public void shouldNotHaveMoreSearchesInFlightThanTheLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(hoverflyClient.searchJournal(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return journalWithEntries(1);
+        });
+        List<Request> requests = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            requests.add(request("/" + i));
+        }
+
+        new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient, executor), 3).verify(requests, atLeastOnce());
+
+        verify(hoverflyClient, times(30)).searchJournal(any());
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void shouldRethrowFailedSearch() {
+        when(hoverflyClient.searchJournal(any())).thenThrow(new HoverflyClientException("Failed to search journal"));
+
+        assertThatThrownBy(() -> new BatchVerifier(AsyncHoverflyClient.from(hoverflyClient, executor))
+                .verify(singletonList(request("/one")), atLeastOnce()))
+                .isInstanceOf(HoverflyClientException.class)
+                .hasMessage("Failed to search journal");
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Request request(String path) {
+        return new Request.Builder()
+                .path(singletonList(newExactMatcher(path)))
+                .build();
+    }
+
+    private static Journal journalWithEntries(int count) {
+        RequestDetails request = new RequestDetails("http", "hoverfly.io", "/", "", "", "GET", Collections.emptyMap());
+        JournalEntry entry = new JournalEntry(request, null, "simulate", ZonedDateTime.now(), 1.0);
+        return new Journal(Collections.nCopies(count, entry), 0, count, count);
+    }
+}
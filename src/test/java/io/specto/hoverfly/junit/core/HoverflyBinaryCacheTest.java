@@ -0,0 +1,104 @@
+package io.specto.hoverfly.junit.core;
+
+import com.google.common.io.Resources;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HoverflyBinaryCacheTest {
+
+    private static final String BINARY_NAME = "hoverfly_test";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private URL sourceUrl;
+    private Path cacheRoot;
+
+    @Before
+    public void setUp() throws Exception {
+        sourceUrl = Resources.getResource("ssl/ca.crt");
+        cacheRoot = temporaryFolder.newFolder("cache").toPath();
+    }
+
+    @Test
+    public void shouldExtractBinaryIntoDirectoryNamedAfterItsChecksum() throws Exception {
+        Path binaryPath = new HoverflyBinaryCache(cacheRoot).getOrExtract(sourceUrl, BINARY_NAME, false);
+
+        assertThat(binaryPath.getFileName().toString()).isEqualTo(BINARY_NAME);
+        assertThat(binaryPath.getParent().getParent()).isEqualTo(cacheRoot);
+        assertThat(binaryPath.getParent().getFileName().toString()).matches("[0-9a-f]{64}");
+        assertThat(Files.isExecutable(binaryPath)).isTrue();
+        assertThat(FileUtils.contentEquals(Paths.get(sourceUrl.toURI()).toFile(), binaryPath.toFile())).isTrue();
+    }
+
+    @Test
+    public void shouldReuseBinaryExtractedByAnotherCacheInstance() throws Exception {
+        Path first = new HoverflyBinaryCache(cacheRoot).getOrExtract(sourceUrl, BINARY_NAME, false);
+        long lastModified = Files.getLastModifiedTime(first).toMillis();
+
+        Path second = new HoverflyBinaryCache(cacheRoot).getOrExtract(sourceUrl, BINARY_NAME, false);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(Files.getLastModifiedTime(second).toMillis()).isEqualTo(lastModified);
+        try (Stream<Path> files = Files.list(first.getParent())) {
+            assertThat(files.filter(path -> path.toString().endsWith(".tmp"))).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldExtractAgainIfCachedBinaryIsCorrupted() throws Exception {
+        Path binaryPath = new HoverflyBinaryCache(cacheRoot).getOrExtract(sourceUrl, BINARY_NAME, false);
+        binaryPath.toFile().setWritable(true);
+        Files.write(binaryPath, "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        Path result = new HoverflyBinaryCache(cacheRoot).getOrExtract(sourceUrl, BINARY_NAME, false);
+
+        assertThat(FileUtils.contentEquals(Paths.get(sourceUrl.toURI()).toFile(), result.toFile())).isTrue();
+    }
+
+    @Test
+    public void shouldExtractBinaryOnceForConcurrentCallers() throws Exception {
+        HoverflyBinaryCache cache = new HoverflyBinaryCache(cacheRoot);
+        int callers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Path>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                Callable<Path> caller = () -> {
+                    start.await();
+                    return cache.getOrExtract(sourceUrl, BINARY_NAME, false);
+                };
+                results.add(executor.submit(caller));
+            }
+            start.countDown();
+
+            Path first = results.get(0).get();
+            for (Future<Path> result : results) {
+                assertThat(result.get()).isEqualTo(first);
+            }
+            assertThat(FileUtils.contentEquals(Paths.get(sourceUrl.toURI()).toFile(), first.toFile())).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.HoverflyConfiguration;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
+import static io.specto.hoverfly.junit.core.HoverflyConfig.remoteConfigs;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HoverflyClientsTest {
+
+    private final List<String> proxiedRequests = new CopyOnWriteArrayList<>();
+    private final SslConfigurer sslConfigurer = new SslConfigurer();
+    private Server proxy;
+    private HoverflyClients clients;
+
+    @Before
+    public void setUp() throws Exception {
+        proxy = new Server(0);
+        proxy.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, org.eclipse.jetty.server.Request baseRequest, HttpServletRequest request, HttpServletResponse response) {
+                baseRequest.setHandled(true);
+                proxiedRequests.add(request.getRequestURL().toString());
+            }
+        });
+        proxy.start();
+        sslConfigurer.setSslContext();
+        clients = new HoverflyClients(localConfigs().proxyPort(((ServerConnector) proxy.getConnectors()[0]).getLocalPort()).scopedClients().build(), sslConfigurer);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        proxy.stop();
+    }
+
+    @Test
+    public void shouldSelectHoverflyAsProxy() {
+        HoverflyConfiguration config = localConfigs().proxyPort(8500).build();
+        HoverflyClients clients = new HoverflyClients(config, sslConfigurer);
+
+        assertThat(clients.getProxySelector().select(URI.create("https://api.flight.com/bookings")))
+                .containsExactly(new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved("localhost", 8500)));
+        assertThat(clients.getProxySelector().select(URI.create("http://localhost:8080/bookings"))).containsExactly(Proxy.NO_PROXY);
+        assertThat(clients.getProxySelector().select(URI.create("http://127.0.0.1:8080/bookings"))).containsExactly(Proxy.NO_PROXY);
+    }
+
+    @Test
+    public void shouldSelectHoverflyAsProxyForLocalHostWhenEnabled() {
+        HoverflyClients clients = new HoverflyClients(localConfigs().proxyPort(8500).proxyLocalHost().build(), sslConfigurer);
+
+        assertThat(clients.getProxySelector().select(URI.create("http://localhost:8080/bookings")))
+                .containsExactly(new Proxy(Proxy.Type.HTTP, InetSocketAddress.createUnresolved("localhost", 8500)));
+    }
+
+    @Test
+    public void shouldNotSelectProxyForRemoteHoverflyOrWebServer() {
+        HoverflyClients remoteClients = new HoverflyClients(remoteConfigs().host("hoverfly.cloud").build(), sslConfigurer);
+        HoverflyClients webServerClients = new HoverflyClients(localConfigs().asWebServer().build(), sslConfigurer);
+
+        assertThat(remoteClients.getProxySelector().select(URI.create("http://hoverfly.cloud:8888/api/health"))).containsExactly(Proxy.NO_PROXY);
+        assertThat(webServerClients.getProxySelector().select(URI.create("http://api.flight.com/bookings"))).containsExactly(Proxy.NO_PROXY);
+    }
+
+    @Test
+    public void shouldSendOkHttpRequestsThroughHoverfly() throws Exception {
+        try (Response response = clients.getOkHttpClient().newCall(new Request.Builder().url("http://api.flight.com/bookings").build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+        }
+
+        assertThat(proxiedRequests).containsExactly("http://api.flight.com/bookings");
+        assertThat(clients.getOkHttpClient()).isSameAs(clients.getOkHttpClient());
+    }
+
+    @Test
+    public void shouldSendApacheHttpClientRequestsThroughHoverfly() throws Exception {
+        try (CloseableHttpClient httpClient = clients.apacheHttpClientBuilder().build();
+             CloseableHttpResponse response = httpClient.execute(new HttpGet("http://api.flight.com/bookings"))) {
+            assertThat(response.getStatusLine().getStatusCode()).isEqualTo(200);
+        }
+
+        assertThat(proxiedRequests).containsExactly("http://api.flight.com/bookings");
+    }
+
+    @Test
+    public void shouldOpenConnectionsThroughHoverfly() throws IOException {
+        HttpURLConnection connection = clients.openConnection(new URL("http://api.flight.com/bookings"));
+
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(proxiedRequests).containsExactly("http://api.flight.com/bookings");
+    }
+}
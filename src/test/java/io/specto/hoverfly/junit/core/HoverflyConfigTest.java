@@ -5,6 +5,7 @@ import java.net.InetSocketAddress;
 import java.util.Optional;
 
 import io.specto.hoverfly.junit.core.config.LogLevel;
+import io.specto.hoverfly.junit.core.config.LogOverflowPolicy;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.contrib.java.lang.system.EnvironmentVariables;
@@ -41,6 +42,7 @@ public class HoverflyConfigTest {
         assertThat(configs.isStatefulCapture()).isFalse();
         assertThat(configs.isIncrementalCapture()).isFalse();
         assertThat(configs.getLogLevel()).isNotPresent();
+        assertThat(configs.isAsyncLogging()).isFalse();
         assertThat(configs.getHoverflyLogger()).isEqualTo(Optional.of(LoggerFactory.getLogger("hoverfly")));
     }
 
@@ -195,4 +197,13 @@ public class HoverflyConfigTest {
 
         assertThat(configs.getLogLevel()).isEqualTo(Optional.of(LogLevel.DEBUG));
     }
+
+    @Test
+    public void shouldSetAsyncLogging() {
+        HoverflyConfiguration configs = localConfigs().asyncLogging(256, LogOverflowPolicy.SAMPLE).build();
+
+        assertThat(configs.isAsyncLogging()).isTrue();
+        assertThat(configs.getAsyncLogBufferSize()).isEqualTo(256);
+        assertThat(configs.getLogOverflowPolicy()).isEqualTo(LogOverflowPolicy.SAMPLE);
+    }
 }
@@ -0,0 +1,216 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.core.config.LogOverflowPolicy;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
+import static io.specto.hoverfly.junit.core.HoverflyMode.CAPTURE;
+import static io.specto.hoverfly.junit.core.HoverflyMode.SIMULATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HoverflyPoolTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<Hoverfly> created = new CopyOnWriteArrayList<>();
+    private HoverflyPool pool;
+
+    @Before
+    public void setUp() {
+        pool = createPool(2, Duration.ofMinutes(1), null);
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    public void shouldReuseInstanceWithTheSameConfiguration() {
+        HoverflyPool.Lease first = pool.lease(localConfigs().destination("test.com"), SIMULATE);
+        first.close();
+
+        HoverflyPool.Lease second = pool.lease(localConfigs().destination("test.com"), SIMULATE);
+
+        assertThat(second.getHoverfly()).isSameAs(first.getHoverfly());
+        assertThat(created).hasSize(1);
+        verify(first.getHoverfly()).start();
+    }
+
+    @Test
+    public void shouldResetInstanceWhenLeaseIsClosed() {
+        HoverflyPool.Lease lease = pool.lease(localConfigs(), CAPTURE);
+        Hoverfly hoverfly = lease.getHoverfly();
+
+        lease.close();
+
+        verify(hoverfly).closeJournalTailers();
+        verify(hoverfly).reset();
+        verify(hoverfly).resetDiffs();
+        verify(hoverfly).resetMode(CAPTURE);
+        verify(hoverfly, never()).close();
+    }
+
+    @Test
+    public void shouldNotShareInstanceAcrossDifferentModesOrConfigurations() {
+        Hoverfly simulate = pool.lease(localConfigs(), SIMULATE).getHoverfly();
+        Hoverfly capture = pool.lease(localConfigs(), CAPTURE).getHoverfly();
+
+        assertThat(simulate).isNotSameAs(capture);
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotShareInstanceAcrossDifferentLogging() {
+        pool.lease(localConfigs(), SIMULATE).close();
+        pool.lease(localConfigs().asyncLogging(64, LogOverflowPolicy.BLOCK), SIMULATE).close();
+
+        HoverflyPool.Lease lease = pool.lease(localConfigs().asyncLogging(64, LogOverflowPolicy.DROP_DEBUG), SIMULATE);
+
+        assertThat(created).hasSize(3);
+        assertThat(lease.getHoverfly()).isSameAs(created.get(2));
+    }
+
+    @Test
+    public void shouldNotShareInstanceAcrossDifferentSimulationPreprocessors() {
+        pool.lease(withPreprocessor(new ArrayList<>()), SIMULATE).close();
+
+        HoverflyPool.Lease lease = pool.lease(withPreprocessor(new ArrayList<>()), SIMULATE);
+
+        assertThat(created).hasSize(2);
+        assertThat(lease.getHoverfly()).isSameAs(created.get(1));
+    }
+
+    @Test
+    public void shouldEvictIdleInstanceToStayWithinMaxInstances() {
+        pool.lease(localConfigs(), SIMULATE).close();
+        HoverflyPool.Lease leased = pool.lease(localConfigs().destination("one.com"), SIMULATE);
+
+        pool.lease(localConfigs().destination("two.com"), SIMULATE);
+
+        assertThat(created).hasSize(3);
+        verify(created.get(0)).close();
+        verify(leased.getHoverfly(), never()).close();
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldStopEvictedInstanceWithoutBlockingThePool() throws Exception {
+        pool.lease(localConfigs(), SIMULATE).close();
+        HoverflyPool.Lease leased = pool.lease(localConfigs().destination("one.com"), SIMULATE);
+        CountDownLatch stopping = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            stopping.countDown();
+            stopped.await();
+            return null;
+        }).when(created.get(0)).close();
+
+        CompletableFuture<HoverflyPool.Lease> lease = CompletableFuture.supplyAsync(
+                () -> pool.lease(localConfigs().destination("two.com"), SIMULATE));
+        try {
+            assertThat(stopping.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // The pool can be used while the evicted instance is stopping
+            CompletableFuture<Hoverfly> reused = CompletableFuture.supplyAsync(() -> {
+                leased.close();
+                return pool.lease(localConfigs().destination("one.com"), SIMULATE).getHoverfly();
+            });
+            assertThat(reused.get(1, TimeUnit.SECONDS)).isSameAs(leased.getHoverfly());
+        } finally {
+            stopped.countDown();
+        }
+        assertThat(lease.get(5, TimeUnit.SECONDS).getHoverfly()).isSameAs(created.get(2));
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldTimeOutWhenAllInstancesAreLeased() {
+        pool.close();
+        pool = createPool(1, Duration.ofMinutes(1), null);
+        pool.lease(localConfigs(), SIMULATE);
+
+        assertThatThrownBy(() -> pool.lease(localConfigs(), SIMULATE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    public void shouldStopInstancesIdleForLongerThanIdleTimeout() throws Exception {
+        pool.close();
+        pool = createPool(2, Duration.ofMillis(1), null);
+        HoverflyPool.Lease lease = pool.lease(localConfigs(), SIMULATE);
+        lease.close();
+        Thread.sleep(10);
+
+        pool.evictIdleInstances();
+
+        verify(lease.getHoverfly()).close();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    public void shouldStopInstanceIfResetFails() {
+        HoverflyPool.Lease lease = pool.lease(localConfigs(), SIMULATE);
+        doThrow(new IllegalStateException("Hoverfly died")).when(lease.getHoverfly()).reset();
+
+        lease.close();
+
+        verify(lease.getHoverfly()).close();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    public void shouldShareMaxInstancesWithPoolsUsingTheSameLockDirectory() throws Exception {
+        pool.close();
+        pool = createPool(1, Duration.ofMinutes(1), temporaryFolder.getRoot());
+        HoverflyPool otherFork = createPool(1, Duration.ofMinutes(1), temporaryFolder.getRoot());
+
+        try {
+            pool.lease(localConfigs(), SIMULATE);
+
+            assertThatThrownBy(() -> otherFork.lease(localConfigs(), SIMULATE))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Timed out");
+        } finally {
+            otherFork.close();
+        }
+    }
+
+    // Each call creates a different preprocessor of the same lambda class
+    private static HoverflyConfig withPreprocessor(List<Simulation> preprocessed) {
+        return localConfigs().simulationPreprocessor(simulation -> preprocessed.add(simulation));
+    }
+
+    private HoverflyPool createPool(int maxInstances, Duration idleTimeout, java.io.File lockDirectory) {
+        return new HoverflyPool(maxInstances, idleTimeout, Duration.ofMillis(300),
+                lockDirectory == null ? null : lockDirectory.toPath(),
+                (config, mode) -> {
+                    Hoverfly hoverfly = mock(Hoverfly.class);
+                    when(hoverfly.getHoverflyConfig()).thenReturn(config.build());
+                    created.add(hoverfly);
+                    return hoverfly;
+                });
+    }
+}
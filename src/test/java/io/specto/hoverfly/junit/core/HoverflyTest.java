@@ -5,6 +5,7 @@ import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.Appender;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.google.common.io.Resources;
@@ -39,16 +40,19 @@ import javax.net.ssl.SSLContext;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.InetSocketAddress;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
 import static io.specto.hoverfly.junit.core.HoverflyConfig.remoteConfigs;
 import static io.specto.hoverfly.junit.core.HoverflyMode.*;
+import static io.specto.hoverfly.junit.core.SimulationSource.cached;
 import static io.specto.hoverfly.junit.core.SimulationSource.classpath;
 import static java.lang.String.format;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
@@ -393,6 +397,22 @@ public class HoverflyTest {
     }
 
 
+    @Test
+    public void shouldStartRemoteInstanceAsynchronously() throws Exception {
+
+        hoverfly = new Hoverfly(remoteConfigs(), SIMULATE);
+
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        when(hoverflyClient.getHealth()).thenReturn(true);
+
+        Hoverfly started = hoverfly.startAsync().get(10, TimeUnit.SECONDS);
+        hoverfly.start();
+
+        assertThat(started).isSameAs(hoverfly);
+        assertThat(hoverfly.getBootDuration()).isPresent();
+        verify(hoverflyClient).deleteJournal();
+    }
+
     @Test
     public void shouldResetSimulationJournalAndStateWhenCallingReset() {
 
@@ -602,6 +622,49 @@ public class HoverflyTest {
         verify(hoverflyClient).deleteJournal();
     }
 
+    @Test
+    public void shouldSkipImportOfSimulationThatHoverflyAlreadyHas() {
+        hoverfly = new Hoverfly(SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.simulate(cached(classpath("test-service.json")));
+        hoverfly.simulate(cached(classpath("test-service.json")));
+        verify(hoverflyClient, times(1)).setSimulation(any(SimulationSource.class));
+
+        hoverfly.simulate(cached(classpath("test-service-https.json")));
+        hoverfly.reset();
+        hoverfly.simulate(cached(classpath("test-service-https.json")));
+        verify(hoverflyClient, times(3)).setSimulation(any(SimulationSource.class));
+    }
+
+    @Test
+    public void shouldAlwaysImportSimulationThatIsNotCached() {
+        hoverfly = new Hoverfly(SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+
+        hoverfly.simulate(classpath("test-service.json"));
+        hoverfly.simulate(classpath("test-service.json"));
+
+        verify(hoverflyClient, times(2)).setSimulation(any(SimulationSource.class));
+    }
+
+    @Test
+    public void shouldImportSimulationAgainWhenItWasChangedInHoverfly() {
+        hoverfly = new Hoverfly(localConfigs().verifySkippedImports(), SIMULATE);
+        HoverflyClient hoverflyClient = createMockHoverflyClient(hoverfly);
+        when(hoverflyClient.getSimulationJson()).thenReturn(
+                simulationJson("{\"pairs\":[]}"),
+                simulationJson("{\"pairs\":[]}"),
+                simulationJson("{\"pairs\":[{}]}"));
+
+        hoverfly.simulate(cached(classpath("test-service.json")));
+        hoverfly.simulate(cached(classpath("test-service.json")));
+        verify(hoverflyClient, times(1)).setSimulation(any(SimulationSource.class));
+
+        hoverfly.simulate(cached(classpath("test-service.json")));
+        verify(hoverflyClient, times(2)).setSimulation(any(SimulationSource.class));
+    }
+
     @Test
     public void shouldBeAbleToSetDiffMode() {
         // given
@@ -709,6 +772,14 @@ public class HoverflyTest {
         }
     }
 
+    private JsonNode simulationJson(String data) {
+        try {
+            return mapper.readTree("{\"data\":" + data + ",\"meta\":{\"timeExported\":\"" + System.nanoTime() + "\"}}");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private HoverflyClient createMockHoverflyClient(Hoverfly hoverfly) {
         HoverflyClient hoverflyClient = mock(HoverflyClient.class);
         Whitebox.setInternalState(hoverfly, "hoverflyClient", hoverflyClient);
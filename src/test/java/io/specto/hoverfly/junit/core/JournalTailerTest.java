@@ -0,0 +1,217 @@
+package io.specto.hoverfly.junit.core;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.api.HoverflyClientException;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JournalTailerTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.now();
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+    private final List<JournalEntry> journal = new CopyOnWriteArrayList<>();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private JournalTailer tailer;
+
+    @Before
+    public void setUp() {
+        when(hoverflyClient.getJournal(anyInt(), anyInt(), eq(JournalTailer.JOURNAL_ORDER))).thenAnswer(invocation -> {
+            int offset = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            List<JournalEntry> page = offset >= journal.size()
+                    ? Collections.emptyList() : new ArrayList<>(journal.subList(offset, Math.min(journal.size(), offset + limit)));
+            return new Journal(page, offset, limit, journal.size());
+        });
+    }
+
+    @After
+    public void tearDown() {
+        if (tailer != null) {
+            tailer.close();
+        }
+    }
+
+    @Test
+    public void shouldOnlyFetchNewEntries() throws Exception {
+        addEntries("/1", "/2", "/3");
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .pageSize(2)
+                .listener(entries -> delivered.addAll(paths(entries)))
+                .start(hoverflyClient);
+
+        awaitUntil(() -> delivered.size() == 3);
+        addEntries("/4");
+        awaitUntil(() -> delivered.size() == 4);
+
+        assertThat(delivered).containsExactly("/1", "/2", "/3", "/4");
+        verify(hoverflyClient, atMost(1)).getJournal(eq(0), anyInt(), eq(JournalTailer.JOURNAL_ORDER));
+    }
+
+    @Test
+    public void shouldStopPollingWhileListenersAreBehind() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        addEntries("/1", "/2", "/3", "/4", "/5");
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .pageSize(1)
+                .maxPendingBatches(1)
+                .listener(entries -> {
+                    awaitQuietly(release);
+                    delivered.addAll(paths(entries));
+                })
+                .start(hoverflyClient);
+
+        // One page is being delivered and one is waiting, so nothing else is fetched
+        Thread.sleep(200);
+        verify(hoverflyClient, atMost(2)).getJournal(anyInt(), anyInt(), eq(JournalTailer.JOURNAL_ORDER));
+
+        release.countDown();
+        awaitUntil(() -> delivered.size() == 5);
+        assertThat(delivered).containsExactly("/1", "/2", "/3", "/4", "/5");
+    }
+
+    @Test
+    public void shouldTailFromTheBeginningWhenJournalIsReset() throws Exception {
+        addEntries("/1", "/2", "/3");
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .listener(entries -> delivered.addAll(paths(entries)))
+                .start(hoverflyClient);
+        awaitUntil(() -> delivered.size() == 3);
+
+        journal.clear();
+        addEntries("/4");
+
+        awaitUntil(() -> delivered.size() == 4);
+        assertThat(delivered).containsExactly("/1", "/2", "/3", "/4");
+    }
+
+    @Test
+    public void shouldTailFromTheBeginningWhenJournalIsResetAndRefilledPastTheOffset() throws Exception {
+        addEntries("/1", "/2", "/3");
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .listener(entries -> delivered.addAll(paths(entries)))
+                .start(hoverflyClient);
+        awaitUntil(() -> delivered.size() == 3);
+
+        journal.clear();
+        addEntries("/4", "/5", "/6", "/7");
+
+        awaitUntil(() -> delivered.size() == 7);
+        assertThat(delivered).containsExactly("/1", "/2", "/3", "/4", "/5", "/6", "/7");
+    }
+
+    @Test
+    public void shouldNotDeliverEntriesAgainWhenOldEntriesAreEvicted() throws Exception {
+        addEntries("/1", "/2", "/3");
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .listener(entries -> delivered.addAll(paths(entries)))
+                .start(hoverflyClient);
+        awaitUntil(() -> delivered.size() == 3);
+
+        journal.remove(0);
+        addEntries("/4");
+
+        awaitUntil(() -> delivered.size() == 4);
+        Thread.sleep(100);
+        assertThat(delivered).containsExactly("/1", "/2", "/3", "/4");
+    }
+
+    @Test
+    public void shouldKeepTailingAfterFailures() throws Exception {
+        when(hoverflyClient.getJournal(anyInt(), anyInt(), eq(JournalTailer.JOURNAL_ORDER)))
+                .thenThrow(new HoverflyClientException("Failed to get journal"))
+                .thenReturn(new Journal(entries("/1"), 0, 100, 1))
+                .thenReturn(new Journal(Collections.emptyList(), 1, 100, 1));
+        tailer = JournalTailer.custom()
+                .pollInterval(10, TimeUnit.MILLISECONDS)
+                .listener(entries -> {
+                    throw new IllegalStateException("Listener failed");
+                })
+                .listener(entries -> delivered.addAll(paths(entries)))
+                .start(hoverflyClient);
+
+        awaitUntil(() -> delivered.size() == 1);
+        assertThat(delivered).containsExactly("/1");
+    }
+
+    @Test
+    public void shouldNotifyOwnerWhenClosed() {
+        List<JournalTailer> closed = new ArrayList<>();
+        tailer = JournalTailer.custom().start(hoverflyClient, closed::add);
+
+        tailer.close();
+
+        assertThat(tailer.isClosed()).isTrue();
+        assertThat(closed).containsExactly(tailer);
+    }
+
+    @Test
+    public void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> JournalTailer.custom().pageSize(0).start(hoverflyClient))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be greater than zero.");
+    }
+
+    private void addEntries(String... paths) {
+        journal.addAll(entries(paths));
+    }
+
+    private static List<JournalEntry> entries(String... paths) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (String path : paths) {
+            RequestDetails request = new RequestDetails("http", "www.my-test.com", path, "", "", "GET", Collections.emptyMap());
+            entries.add(new JournalEntry(request, null, "simulate", START.plusSeconds(SEQUENCE.incrementAndGet()), 1d));
+        }
+        return entries;
+    }
+
+    private static List<String> paths(List<JournalEntry> entries) {
+        return entries.stream().map(entry -> entry.getRequest().getPath()).collect(Collectors.toList());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("Timed out waiting for journal entries").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
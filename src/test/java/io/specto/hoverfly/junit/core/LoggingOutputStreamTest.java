@@ -0,0 +1,94 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoggingOutputStreamTest {
+
+    private final Logger logger = mock(Logger.class);
+    private final LoggingOutputStream outputStream = new LoggingOutputStream(logger);
+
+    @Before
+    public void setUp() {
+        when(logger.isErrorEnabled()).thenReturn(true);
+        when(logger.isWarnEnabled()).thenReturn(true);
+        when(logger.isInfoEnabled()).thenReturn(true);
+    }
+
+    @Test
+    public void shouldLogMessageAndFieldsAtLevel() throws Exception {
+        write("{\"destination\":\"api.flight.com\",\"level\":\"error\",\"msg\":\"Failed to match\",\"status\":502,\"time\":\"2019-01-01T00:00:00Z\"}\n");
+
+        assertThat(captureLogged(Level.ERROR)).isEqualTo("Failed to match destination=api.flight.com status=502");
+    }
+
+    @Test
+    public void shouldLogLinesSplitAcrossWrites() throws Exception {
+        write("{\"level\":\"warning\",\"msg\":\"First\"}\n{\"level\":\"warn");
+        write("ing\",\"msg\":\"Second\",\"mode\":{\"name\":\"simulate\"}}\n");
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(logger, times(2)).warn(eq("{}"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(String::valueOf)
+                .containsExactly("First ", "Second mode={\"name\":\"simulate\"}");
+    }
+
+    @Test
+    public void shouldLogSingleByteWrites() throws Exception {
+        for (byte b : "{\"level\":\"info\",\"msg\":\"Hello\"}\n".getBytes(StandardCharsets.UTF_8)) {
+            outputStream.write(b);
+        }
+
+        assertThat(captureLogged(Level.INFO)).isEqualTo("Hello ");
+    }
+
+    @Test
+    public void shouldNotLogLinesAtDisabledLevel() throws Exception {
+        write("{\"level\":\"debug\",\"msg\":\"Matching request\"}\n");
+
+        verify(logger, never()).debug(anyString(), any(Object.class));
+    }
+
+    @Test
+    public void shouldLogUnparseableLinesAsInfo() throws Exception {
+        write("panic: runtime error\n");
+
+        verify(logger).info("panic: runtime error");
+    }
+
+    private String captureLogged(Level level) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        switch (level) {
+            case ERROR:
+                verify(logger).error(eq("{}"), captor.capture());
+                break;
+            case INFO:
+                verify(logger).info(eq("{}"), captor.capture());
+                break;
+        }
+        return String.valueOf(captor.getValue());
+    }
+
+    private void write(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        outputStream.write(bytes, 0, bytes.length);
+    }
+
+    private enum Level {
+        ERROR, INFO
+    }
+}
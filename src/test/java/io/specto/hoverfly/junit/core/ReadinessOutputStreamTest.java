@@ -0,0 +1,54 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadinessOutputStreamTest {
+
+    private final ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+    private final ReadinessOutputStream outputStream = new ReadinessOutputStream(delegate);
+
+    @Test
+    public void shouldBecomeReadyWhenAdminAndProxyAreListening() throws Exception {
+        write("{\"level\":\"info\",\"msg\":\"Admin interface is listening on :8888\"}\n");
+        assertThat(outputStream.isReady()).isFalse();
+
+        write("{\"level\":\"info\",\"msg\":\"Proxy is listening on :8500\"}\n");
+
+        assertThat(outputStream.awaitReady(0, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    @Test
+    public void shouldDetectReadinessFromTextLogs() throws Exception {
+        write("INFO[2019-01-01T00:00:00Z] Proxy is listening on :8500\n" +
+                "INFO[2019-01-01T00:00:00Z] Admin interface is listening on :8888\n");
+
+        assertThat(outputStream.isReady()).isTrue();
+    }
+
+    @Test
+    public void shouldNotBecomeReadyOnIncompleteLine() throws Exception {
+        write("Admin interface is listening on :8888\nProxy is listening");
+
+        assertThat(outputStream.awaitReady(10, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    public void shouldPassOutputThroughToDelegate() throws Exception {
+        String output = "Admin interface is listening on :8888\nsomething else\n";
+        write(output);
+        outputStream.write('!');
+
+        assertThat(new String(delegate.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(output + "!");
+    }
+
+    private void write(String text) throws Exception {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        outputStream.write(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,139 @@
+package io.specto.hoverfly.junit.core;
+
+import okio.Buffer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimulationCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final SimulationCache cache = new SimulationCache(1024);
+
+    @Test
+    public void shouldReadSimulationOnce() {
+        AtomicInteger reads = new AtomicInteger();
+        SimulationSource source = SimulationSource.inputStream(() -> {
+            reads.incrementAndGet();
+            return new ByteArrayInputStream("{\"data\":{}}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(contentOf(cache.get(source))).isEqualTo("{\"data\":{}}");
+        assertThat(contentOf(cache.get(source))).isEqualTo("{\"data\":{}}");
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    public void shouldReadFileAgainWhenModified() throws Exception {
+        Path file = temporaryFolder.newFile("simulation.json").toPath();
+        Files.write(file, "{\"data\":{}}".getBytes(StandardCharsets.UTF_8));
+        SimulationSource source = SimulationSource.file(file);
+
+        assertThat(contentOf(cache.get(source))).isEqualTo("{\"data\":{}}");
+
+        Files.write(file, "{\"data\":{\"pairs\":[]}}".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+        assertThat(contentOf(cache.get(source))).isEqualTo("{\"data\":{\"pairs\":[]}}");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeySimulationsOnClasspathByUrl() {
+        SimulationCache cache = new SimulationCache(1024 * 1024);
+
+        cache.get(SimulationSource.classpath("test-service.json"));
+        cache.get(SimulationSource.classpath("test-service.json"));
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedSimulations() {
+        SimulationSource first = source(400);
+        SimulationSource second = source(400);
+        SimulationSource third = source(400);
+
+        cache.get(first);
+        cache.get(second);
+        cache.get(first);
+        cache.get(third);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTotalBytes()).isEqualTo(800);
+        ByteBuffer content = cache.get(first);
+        assertThat(content.remaining()).isEqualTo(400);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotCacheSimulationLargerThanCache() {
+        assertThat(cache.get(source(2048)).remaining()).isEqualTo(2048);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    public void shouldServeCachedSimulationSource() throws Exception {
+        CachedSimulationSource source = new CachedSimulationSource(SimulationSource.classpath("test-service.json"), new SimulationCache(1024 * 1024));
+
+        assertThat(source.getSimulation()).isEqualTo(SimulationSource.classpath("test-service.json").getSimulation());
+        assertThat(source.contentLength()).isEqualTo(-1);
+        SimulationSource snapshot = source.snapshot();
+        assertThat(snapshot.contentLength()).isEqualTo(source.getSimulation().getBytes(StandardCharsets.UTF_8).length);
+        assertThat(snapshot.getSimulation()).isEqualTo(source.getSimulation());
+    }
+
+    @Test
+    public void shouldReadSimulationLargerThanCacheOnceForSnapshot() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        char[] content = new char[2048];
+        Arrays.fill(content, 'a');
+        String simulation = new String(content);
+        CachedSimulationSource source = new CachedSimulationSource(() -> {
+            reads.incrementAndGet();
+            return simulation;
+        }, cache);
+
+        SimulationSource snapshot = source.snapshot();
+        Buffer written = new Buffer();
+        snapshot.writeTo(written);
+
+        assertThat(snapshot.contentLength()).isEqualTo(2048);
+        assertThat(written.readUtf8()).isEqualTo(simulation);
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    public void shouldFailWhenCacheSizeIsNotPositive() {
+        assertThatThrownBy(() -> new SimulationCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cache size must be greater than zero.");
+    }
+
+    private static SimulationSource source(int size) {
+        char[] content = new char[size];
+        Arrays.fill(content, 'a');
+        String simulation = new String(content);
+        return () -> simulation;
+    }
+
+    private static String contentOf(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer).toString();
+    }
+}
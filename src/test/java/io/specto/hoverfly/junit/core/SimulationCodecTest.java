@@ -0,0 +1,137 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
+import static io.specto.hoverfly.junit.core.HoverflyUtils.readSimulationFromString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimulationCodecTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String SIMULATION = SimulationSource.classpath("test-service.json").getSimulation();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Hoverfly hoverfly;
+
+    @After
+    public void tearDown() {
+        if (hoverfly != null) {
+            hoverfly.close();
+        }
+    }
+
+    @Test
+    public void shouldReadGzipFile() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("simulation.json.gz");
+        Files.write(file, gzip(SIMULATION));
+        SimulationSource source = SimulationSource.file(file);
+
+        assertThat(source.getSimulation()).isEqualTo(SIMULATION);
+        assertThat(source.contentLength()).isEqualTo(-1);
+        assertThat(contentWrittenBy(source)).isEqualTo(SIMULATION);
+        assertThat(SimulationSource.cached(source).getSimulation()).isEqualTo(SIMULATION);
+    }
+
+    @Test
+    public void shouldDetectGzipByMagicBytes() throws Exception {
+        byte[] compressed = gzip(SIMULATION);
+
+        assertThat(SimulationSource.inputStream(() -> new ByteArrayInputStream(compressed)).getSimulation()).isEqualTo(SIMULATION);
+        assertThat(SimulationSource.inputStream(() -> new ByteArrayInputStream(new byte[0])).getSimulation()).isEmpty();
+    }
+
+    @Test
+    public void shouldExportCompressedCompactSimulation() throws Exception {
+        hoverfly = new Hoverfly(localConfigs().embedded().scopedClients().compactSimulationExport(), HoverflyMode.SIMULATE);
+        hoverfly.start();
+        hoverfly.simulate(SimulationSource.classpath("test-service.json"));
+        Path file = temporaryFolder.getRoot().toPath().resolve("capture/simulation.json.gz");
+
+        hoverfly.exportSimulation(file);
+
+        byte[] exported = Files.readAllBytes(file);
+        assertThat(exported[0]).isEqualTo((byte) 0x1f);
+        assertThat(exported[1]).isEqualTo((byte) 0x8b);
+        String simulation = SimulationSource.file(file).getSimulation();
+        assertThat(simulation).doesNotContain("\n");
+        assertThat(OBJECT_MAPPER.readTree(simulation)).isEqualTo(OBJECT_MAPPER.valueToTree(hoverfly.getSimulation()));
+    }
+
+    @Test
+    public void shouldUseRegisteredCodec() throws Exception {
+        SimulationCodec.register(new Base64Codec());
+        Path file = temporaryFolder.getRoot().toPath().resolve("simulation.json.b64");
+        try (OutputStream outputStream = SimulationCodecs.encode(file, Files.newOutputStream(file))) {
+            outputStream.write(SIMULATION.getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.US_ASCII)).startsWith("B64:");
+        assertThat(readSimulationFromString(SimulationSource.file(file).getSimulation()))
+                .isEqualTo(readSimulationFromString(SIMULATION));
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(bytes)) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String contentWrittenBy(SimulationSource source) throws IOException {
+        Buffer buffer = new Buffer();
+        source.writeTo(buffer);
+        return buffer.readUtf8();
+    }
+
+    private static class Base64Codec implements SimulationCodec {
+
+        private static final byte[] MAGIC = "B64:".getBytes(StandardCharsets.US_ASCII);
+
+        @Override
+        public String getFileExtension() {
+            return ".b64";
+        }
+
+        @Override
+        public boolean matches(byte[] header, int length) {
+            for (int i = 0; i < MAGIC.length; i++) {
+                if (i >= length || header[i] != MAGIC[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public InputStream decode(InputStream inputStream) throws IOException {
+            inputStream.skip(MAGIC.length);
+            return Base64.getDecoder().wrap(inputStream);
+        }
+
+        @Override
+        public OutputStream encode(OutputStream outputStream) throws IOException {
+            outputStream.write(MAGIC);
+            return Base64.getEncoder().wrap(outputStream);
+        }
+    }
+}
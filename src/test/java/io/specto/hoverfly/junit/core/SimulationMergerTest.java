@@ -0,0 +1,74 @@
+package io.specto.hoverfly.junit.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.specto.hoverfly.junit.core.model.DelaySettings;
+import io.specto.hoverfly.junit.core.model.RequestResponsePair;
+import io.specto.hoverfly.junit.core.model.Simulation;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.core.HoverflyUtils.readSimulationFromString;
+import static io.specto.hoverfly.junit.core.SimulationSource.classpath;
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SimulationMergerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldMergePairsAndDelaysOfAllSources() throws Exception {
+        SimulationSource first = classpath("test-service.json");
+        SimulationSource second = dsl(service("www.other-service.com").get("/foo").willReturn(success()).andDelay(100, TimeUnit.MILLISECONDS).forAll());
+
+        Simulation merged = objectMapper.readValue(SimulationMerger.merge(first, second).getSimulation(), Simulation.class);
+
+        Simulation expectedFirst = readSimulationFromString(first.getSimulation());
+        Simulation expectedSecond = readSimulationFromString(second.getSimulation());
+        List<RequestResponsePair> expectedPairs = new ArrayList<>(expectedFirst.getHoverflyData().getPairs());
+        expectedPairs.addAll(expectedSecond.getHoverflyData().getPairs());
+        List<DelaySettings> expectedDelays = new ArrayList<>(expectedFirst.getHoverflyData().getGlobalActions().getDelays());
+        expectedDelays.addAll(expectedSecond.getHoverflyData().getGlobalActions().getDelays());
+
+        assertThat(merged.getHoverflyData().getPairs()).containsExactlyElementsOf(expectedPairs);
+        assertThat(merged.getHoverflyData().getGlobalActions().getDelays()).containsExactlyElementsOf(expectedDelays);
+        assertThat(merged.getHoverflyMetaData()).isEqualTo(expectedFirst.getHoverflyMetaData());
+    }
+
+    @Test
+    public void shouldWriteMergedSimulationToChannel() throws Exception {
+        SimulationSource merged = SimulationMerger.merge(classpath("test-service.json"), classpath("test-service-https.json"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        merged.writeTo(Channels.newChannel(outputStream));
+
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo(merged.getSimulation());
+    }
+
+    @Test
+    public void shouldMergeToSimulationWithoutGlobalActions() {
+        Simulation simulation = SimulationMerger.mergeToSimulation(
+                classpath("simulations/v5-simulation-without-global-actions.json"), classpath("test-service.json"));
+
+        Simulation expected = readSimulationFromString(classpath("test-service.json").getSimulation());
+        assertThat(simulation.getHoverflyData().getPairs()).containsAll(expected.getHoverflyData().getPairs());
+        assertThat(simulation.getHoverflyData().getGlobalActions().getDelays())
+                .containsExactlyElementsOf(expected.getHoverflyData().getGlobalActions().getDelays());
+    }
+
+    @Test
+    public void shouldThrowExceptionIfSourceIsNotASimulation() {
+        assertThatThrownBy(() -> SimulationMerger.merge(() -> "[]", SimulationSource.empty()).getSimulation())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Failed to read simulation data.");
+    }
+}
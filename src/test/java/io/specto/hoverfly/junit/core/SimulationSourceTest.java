@@ -7,11 +7,19 @@ import io.specto.hoverfly.webserver.ImportTestWebServer;
 import org.json.JSONException;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
 
@@ -30,6 +38,9 @@ public class SimulationSourceTest {
     private static URL url;
     private ObjectMapper objectMapper = new ObjectMapper();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @BeforeClass
     public static void setUp() {
         url = ImportTestWebServer.run();
@@ -146,6 +157,103 @@ public class SimulationSourceTest {
     }
 
 
+    @Test
+    public void shouldStreamSimulationFromFile() throws Exception {
+        // Given
+        Path path = Paths.get(Resources.getResource("test-service.json").toURI());
+        SimulationSource simulationSource = SimulationSource.file(path);
+
+        // When
+        String actual = writeToString(simulationSource);
+
+        // Then
+        assertThat(actual).isEqualTo(EXPECTED);
+        assertThat(simulationSource.contentLength()).isEqualTo(Files.size(path));
+    }
+
+    @Test(timeout = 5000)
+    public void shouldFailWhenFileIsTruncatedWhileStreaming() throws Exception {
+        // Given
+        Path path = temporaryFolder.newFile("simulation.json").toPath();
+        Files.write(path, new byte[1024 * 1024]);
+        SimulationSource simulationSource = SimulationSource.file(path);
+        WritableByteChannel truncatingChannel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                Files.write(path, new byte[0]);
+                int written = src.remaining();
+                src.position(src.limit());
+                return written;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        // When
+        Throwable throwable = catchThrowable(() -> simulationSource.writeTo(truncatingChannel));
+
+        // Then
+        assertThat(throwable)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("was truncated while being read");
+    }
+
+    @Test
+    public void shouldStreamSimulationFromClasspath() throws Exception {
+
+        // When
+        String actual = writeToString(SimulationSource.classpath("test-service.json"));
+
+        // Then
+        assertThat(actual).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    public void shouldCreateSimulationFromInputStream() throws Exception {
+        // Given
+        SimulationSource simulationSource = SimulationSource.inputStream(() -> Resources.getResource("test-service.json").openStream());
+
+        // When
+        String streamed = writeToString(simulationSource);
+        String actual = simulationSource.getSimulation();
+
+        // Then
+        assertThat(streamed).isEqualTo(EXPECTED);
+        assertThat(actual).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    public void shouldStreamSimulationFromSourceThatIsNotStreaming() throws Exception {
+        // Given
+        SimulationSource simulationSource = () -> EXPECTED;
+
+        // When
+        String actual = writeToString(simulationSource);
+
+        // Then
+        assertThat(actual).isEqualTo(EXPECTED);
+        assertThat(simulationSource.contentLength()).isEqualTo(-1);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenStreamingMissingClasspathResource() {
+
+        // When
+        Throwable throwable = catchThrowable(() -> writeToString(SimulationSource.classpath("missing.json")));
+
+        // Then
+        assertThat(throwable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cannot load classpath resource: 'missing.json'");
+    }
+
     @Test
     public void shouldThrowExceptionWhenUrlStringIsInvalid() {
 
@@ -181,4 +289,10 @@ public class SimulationSourceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Cannot load file resource: 'foo'");
     }
+
+    private static String writeToString(SimulationSource simulationSource) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        simulationSource.writeTo(Channels.newChannel(outputStream));
+        return new String(outputStream.toByteArray(), UTF_8);
+    }
 }
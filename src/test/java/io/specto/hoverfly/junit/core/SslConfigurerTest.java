@@ -0,0 +1,61 @@
+package io.specto.hoverfly.junit.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SslConfigurerTest {
+
+    private SSLContext defaultSslContext;
+
+    @Before
+    public void setUp() throws Exception {
+        defaultSslContext = SSLContext.getDefault();
+    }
+
+    @After
+    public void tearDown() {
+        SSLContext.setDefault(defaultSslContext);
+        new SslConfigurer().reset();
+    }
+
+    @Test
+    public void shouldShareSslContextBetweenInstancesForTheSameCertificate() {
+        SslConfigurer first = new SslConfigurer();
+        first.setDefaultSslContext();
+        SslConfigurer second = new SslConfigurer();
+        second.setDefaultSslContext();
+
+        assertThat(second.getSslContext()).isSameAs(first.getSslContext());
+        assertThat(second.getTrustManager()).isSameAs(first.getTrustManager());
+    }
+
+    @Test
+    public void shouldNotShareSslContextForDifferentCertificates() {
+        SslConfigurer first = new SslConfigurer();
+        first.setDefaultSslContext();
+        SslConfigurer second = new SslConfigurer();
+        second.setDefaultSslContext("ssl/ca.crt");
+
+        assertThat(second.getSslContext()).isNotSameAs(first.getSslContext());
+    }
+
+    @Test
+    public void shouldKeepDefaultSslContextWhenSetAgain() throws Exception {
+        SslConfigurer sslConfigurer = new SslConfigurer();
+        sslConfigurer.setDefaultSslContext();
+        SSLContext sslContext = SSLContext.getDefault();
+        SSLSocketFactory socketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+
+        new SslConfigurer().setDefaultSslContext();
+
+        assertThat(SSLContext.getDefault()).isSameAs(sslContext).isSameAs(sslConfigurer.getSslContext());
+        assertThat(HttpsURLConnection.getDefaultSSLSocketFactory()).isSameAs(socketFactory);
+    }
+}
@@ -5,7 +5,9 @@ import com.google.common.io.Resources;
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.net.URL;
 import java.nio.file.Files;
@@ -16,12 +18,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class TempFileManagerTest {
 
+    @Rule
+    public TemporaryFolder cacheFolder = new TemporaryFolder();
+
     private TempFileManager tempFileManager;
     private String systemTempDir = System.getProperty("java.io.tmpdir");
 
     @Before
     public void setUp() {
-        tempFileManager = new TempFileManager();
+        tempFileManager = new TempFileManager(new HoverflyBinaryCache(cacheFolder.getRoot().toPath()));
     }
 
     @Test
@@ -77,10 +82,19 @@ public class TempFileManagerTest {
         assertThat(Files.isRegularFile(targetFile)).isTrue();
         assertThat(Files.isReadable(targetFile)).isTrue();
         assertThat(Files.isExecutable(targetFile)).isTrue();
-        assertThat(targetFile.getParent()).isEqualTo(tempFileManager.getTempDirectory());
+        assertThat(targetFile.getParent().getParent()).isEqualTo(cacheFolder.getRoot().toPath());
         assertThat(FileUtils.contentEquals(sourceFile.toFile(), targetFile.toFile())).isTrue();
     }
 
+    @Test
+    public void shouldNotPurgeCachedHoverflyBinary() {
+        Path targetFile = tempFileManager.copyHoverflyBinary(new SystemConfigFactory().createSystemConfig());
+
+        tempFileManager.purge();
+
+        assertThat(Files.exists(targetFile)).isTrue();
+    }
+
     @After
     public void tearDown() {
         tempFileManager.purge();
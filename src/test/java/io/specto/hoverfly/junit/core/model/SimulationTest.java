@@ -84,6 +84,41 @@ public class SimulationTest {
     }
 
 
+    @Test
+    public void shouldHaveSameHashCodeWhenEqual() throws Exception {
+        // Given
+        Simulation expected = getLatestSimulation();
+
+        // When
+        Simulation actual = objectMapper.readValue(v5Resource, Simulation.class);
+
+        // Then
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(actual.getHoverflyData().getPairs().iterator().next().hashCode())
+                .isEqualTo(expected.getHoverflyData().getPairs().iterator().next().hashCode());
+    }
+
+    @Test
+    public void shouldIgnoreHoverflyVersionAndExportTimeWhenComparingMetaData() {
+        HoverflyMetaData meta = new HoverflyMetaData("v5", "v1.0.0", "2019-01-01T00:00:00Z");
+        HoverflyMetaData other = new HoverflyMetaData("v5", "v0.17.0", "2018-01-01T00:00:00Z");
+
+        assertThat(meta).isEqualTo(other);
+        assertThat(meta.hashCode()).isEqualTo(other.hashCode());
+        assertThat(meta).isNotEqualTo(new HoverflyMetaData("v4", "v1.0.0", "2019-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void shouldNotBeEqualWhenResponseDiffers() {
+        Response response = getTestResponseBuilder().build();
+        Response other = getTestResponseBuilder().status(201).build();
+
+        assertThat(response).isEqualTo(getTestResponseBuilder().build());
+        assertThat(response).isNotEqualTo(other);
+        assertThat(new RequestResponsePair(getTestRequestBuilder().build(), response))
+                .isNotEqualTo(new RequestResponsePair(getTestRequestBuilder().build(), other));
+    }
+
     private Simulation getLatestSimulation() {
         Request.Builder requestBuilder = getTestRequestBuilder()
                 .deprecatedQuery(singletonList(newExactMatcher("")))
@@ -0,0 +1,132 @@
+package io.specto.hoverfly.junit.embedded;
+
+import io.specto.hoverfly.junit.core.Hoverfly;
+import io.specto.hoverfly.junit.core.HoverflyMode;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.created;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.contains;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.equalsToJson;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EmbeddedHoverflyTest {
+
+    private Hoverfly hoverfly;
+    private OkHttpClient client;
+
+    @After
+    public void tearDown() {
+        if (hoverfly != null) {
+            hoverfly.close();
+        }
+    }
+
+    @Test
+    public void shouldServeSimulationThroughProxy() throws Exception {
+        startHoverfly(false);
+        hoverfly.simulate(dsl(service("api.flight.com")
+                .get("/api/bookings/1")
+                .willReturn(success("{\"bookingId\":\"1\"}", "application/json"))));
+
+        try (Response response = get("http://api.flight.com/api/bookings/1")) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Type")).isEqualTo("application/json");
+            assertThat(response.body().string()).isEqualTo("{\"bookingId\":\"1\"}");
+        }
+
+        hoverfly.verify(service("api.flight.com").get("/api/bookings/1"), times(1));
+    }
+
+    @Test
+    public void shouldServeSimulationAsWebServer() throws Exception {
+        startHoverfly(true);
+        hoverfly.simulate(dsl(service(contains("localhost"))
+                .post("/api/bookings").body(equalsToJson("{\"flightId\":\"1\"}"))
+                .willReturn(created("http://localhost/api/bookings/1"))));
+
+        Request request = new Request.Builder()
+                .url("http://localhost:" + hoverfly.getHoverflyConfig().getProxyPort() + "/api/bookings")
+                .post(RequestBody.create(okhttp3.MediaType.parse("application/json"), "{\"flightId\":\"1\"}"))
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertThat(response.code()).isEqualTo(201);
+            assertThat(response.header("Location")).isEqualTo("http://localhost/api/bookings/1");
+        }
+    }
+
+    @Test
+    public void shouldTransitionState() throws Exception {
+        startHoverfly(false);
+        hoverfly.simulate(dsl(service("api.flight.com")
+                .post("/api/bookings").anyBody().willReturn(success().andSetState("booked", "true"))
+                .get("/api/bookings").willReturn(success("[]", "application/json"))
+                .get("/api/bookings").withState("booked", "true").willReturn(success("[1]", "application/json"))));
+
+        try (Response response = get("http://api.flight.com/api/bookings")) {
+            assertThat(response.body().string()).isEqualTo("[]");
+        }
+        client.newCall(new Request.Builder().url("http://api.flight.com/api/bookings")
+                .post(RequestBody.create(null, "")).build()).execute().close();
+        try (Response response = get("http://api.flight.com/api/bookings")) {
+            assertThat(response.body().string()).isEqualTo("[1]");
+        }
+
+        assertThat(hoverfly.getState()).containsEntry("booked", "true");
+    }
+
+    @Test
+    public void shouldReturnBadGatewayWhenNoPairMatches() throws Exception {
+        startHoverfly(false);
+
+        try (Response response = get("http://api.flight.com/api/bookings")) {
+            assertThat(response.code()).isEqualTo(502);
+            assertThat(response.body().string()).isEqualTo(EmbeddedHoverflyClient.NO_MATCH_MESSAGE);
+        }
+        assertThat(hoverfly.snapshotJournal().getEntries()).hasSize(1);
+    }
+
+    @Test
+    public void shouldApplyDelays() throws Exception {
+        startHoverfly(false);
+        hoverfly.simulate(dsl(service("api.flight.com")
+                .get("/api/bookings").willReturn(success().withDelay(200, TimeUnit.MILLISECONDS))));
+
+        long start = System.nanoTime();
+        get("http://api.flight.com/api/bookings").close();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+        assertThat(hoverfly.snapshotJournal().getEntries().get(0).getLatency()).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    public void shouldOnlySupportSimulateMode() {
+        assertThatThrownBy(() -> new Hoverfly(localConfigs().embedded(), HoverflyMode.CAPTURE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Embedded Hoverfly only supports simulate mode.");
+    }
+
+    private void startHoverfly(boolean webServer) {
+        hoverfly = new Hoverfly(webServer ? localConfigs().embedded().scopedClients().asWebServer() : localConfigs().embedded().scopedClients(),
+                HoverflyMode.SIMULATE);
+        hoverfly.start();
+        client = hoverfly.getClients().getOkHttpClient();
+    }
+
+    private Response get(String url) throws IOException {
+        return client.newCall(new Request.Builder().url(url).build()).execute();
+    }
+}
@@ -12,6 +12,7 @@ import static io.specto.hoverfly.junit.core.HoverflyConfig.localConfigs;
 import static io.specto.hoverfly.junit.core.SimulationSource.empty;
 import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
 import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -113,6 +114,34 @@ public class HoverflyRuleTest {
                 .hasMessage("Output simulation file name can not be blank.");
     }
 
+    @Test
+    public void shouldWaitForEagerStartBeforeRunningTests() {
+        hoverflyRule = HoverflyRule.inSimulationMode();
+        Hoverfly mockHoverfly = getHoverflyMock(hoverflyRule);
+
+        hoverflyRule.startEagerly();
+        verify(mockHoverfly).startAsync();
+
+        hoverflyRule.before();
+        verify(mockHoverfly).start();
+    }
+
+    @Test
+    public void shouldNotAllowPooledRuleToStartEagerly() {
+        hoverflyRule = HoverflyRule.inSimulationMode().pooled();
+
+        assertThatThrownBy(() -> hoverflyRule.startEagerly())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("A pooled HoverflyRule cannot be started eagerly.");
+    }
+
+    @Test
+    public void shouldNotCreateHoverflyUntilItIsUsed() {
+        hoverflyRule = HoverflyRule.inSimulationMode().pooled();
+
+        assertThat((Object) Whitebox.getInternalState(hoverflyRule, "hoverfly")).isNull();
+    }
+
     private Hoverfly getHoverflyMock(HoverflyRule hoverflyRule) {
         Hoverfly mockHoverfly = mock(Hoverfly.class);
         Whitebox.setInternalState(hoverflyRule, "hoverfly", mockHoverfly);
@@ -0,0 +1,110 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher;
+import org.junit.Test;
+
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.any;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.contains;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.endsWith;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.equalsTo;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.equalsToJson;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.equalsToXml;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matches;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesGoRegex;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesJsonPath;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesPartialJson;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesXPath;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.startsWith;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FieldMatchersTest {
+
+    private static final String JSON = "{\"store\":{\"book\":[{\"title\":\"Dune\",\"price\":8.99},{\"title\":\"Emma\",\"price\":12}],\"open\":true}}";
+    private static final String XML = "<items>\n  <item id=\"1\">apple</item>\n  <item id=\"2\">pear</item>\n</items>";
+
+    @Test
+    public void shouldMatchExactly() {
+        assertThat(isMatch(equalsTo("/api/bookings"), "/api/bookings")).isTrue();
+        assertThat(isMatch(equalsTo("/api/bookings"), "/api/bookings/1")).isFalse();
+    }
+
+    @Test
+    public void shouldMatchGlob() {
+        assertThat(isMatch(matches("api-v*.test-svc.*"), "api-v2.test-svc.com")).isTrue();
+        assertThat(isMatch(matches("*.com"), "www.test.com")).isTrue();
+        assertThat(isMatch(matches("a*b*c"), "abc")).isTrue();
+        assertThat(isMatch(matches("a*b*c"), "aXbYc")).isTrue();
+        assertThat(isMatch(matches("a*b*c"), "acb")).isFalse();
+        assertThat(isMatch(matches("ab*ba"), "aba")).isFalse();
+        assertThat(isMatch(matches("*"), "")).isTrue();
+    }
+
+    @Test
+    public void shouldMatchRegexAnywhereInTheValue() {
+        assertThat(isMatch(matchesGoRegex("book(ing)?s"), "/api/bookings/1")).isTrue();
+        assertThat(isMatch(startsWith("/api"), "/api/bookings")).isTrue();
+        assertThat(isMatch(startsWith("/api"), "/v1/api")).isFalse();
+        assertThat(isMatch(endsWith("ings"), "/api/bookings")).isTrue();
+        assertThat(isMatch(contains("book"), "/api/bookings")).isTrue();
+        assertThat(isMatch(any(), "")).isTrue();
+    }
+
+    @Test
+    public void shouldMatchJson() {
+        assertThat(isMatch(equalsToJson("{\"open\":true,\"book\":[{\"price\":12.0}]}"), "{ \"book\": [{\"price\": 12}], \"open\": true }")).isTrue();
+        assertThat(isMatch(equalsToJson("{\"open\":true}"), "{\"open\":true,\"closed\":false}")).isFalse();
+        assertThat(isMatch(equalsToJson("{\"open\":true}"), "not json")).isFalse();
+    }
+
+    @Test
+    public void shouldMatchPartialJson() {
+        assertThat(isMatch(matchesPartialJson("{\"store\":{\"book\":[{\"title\":\"Emma\"}]}}"), JSON)).isTrue();
+        assertThat(isMatch(matchesPartialJson("{\"store\":{\"book\":[{\"title\":\"Ulysses\"}]}}"), JSON)).isFalse();
+    }
+
+    @Test
+    public void shouldMatchJsonPath() {
+        assertThat(isMatch(matchesJsonPath("$.store.open"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$.store.book[1].title"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$['store']['book'][*]"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$..price"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$.store.book[?(@.price > 10)]"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$.store.book[?(@.title == 'Dune')]"), JSON)).isTrue();
+        assertThat(isMatch(matchesJsonPath("$.store.book[?(@.price > 20)]"), JSON)).isFalse();
+        assertThat(isMatch(matchesJsonPath("$.store.book[5]"), JSON)).isFalse();
+        assertThat(isMatch(matchesJsonPath("$.store.bicycle"), JSON)).isFalse();
+    }
+
+    @Test
+    public void shouldMatchXmlIgnoringFormatting() {
+        assertThat(isMatch(equalsToXml("<items><item id=\"1\">apple</item><item id=\"2\">pear</item></items>"), XML)).isTrue();
+        assertThat(isMatch(equalsToXml("<items><item id=\"1\">apple</item></items>"), XML)).isFalse();
+        assertThat(isMatch(equalsToXml("<items/>"), "not xml")).isFalse();
+    }
+
+    @Test
+    public void shouldMatchXPath() {
+        assertThat(isMatch(matchesXPath("/items/item[@id='2']"), XML)).isTrue();
+        assertThat(isMatch(matchesXPath("count(/items/item) = 2"), XML)).isTrue();
+        assertThat(isMatch(matchesXPath("/items/item[@id='3']"), XML)).isFalse();
+    }
+
+    @Test
+    public void shouldReuseCompiledMatchers() {
+        assertThat(FieldMatchers.compile(matchesGoRegex("^/api"))).isSameAs(FieldMatchers.compile(matchesGoRegex("^/api")));
+    }
+
+    @Test
+    public void shouldRejectInvalidMatchers() {
+        assertThatThrownBy(() -> FieldMatchers.compile(matchesGoRegex("(unclosed")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FieldMatchers.compile(matchesJsonPath("store.book")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported JSONPath expression: store.book");
+    }
+
+    private static boolean isMatch(RequestFieldMatcher matcher, String actual) {
+        return FieldMatchers.compile(matcher).matches(actual);
+    }
+}
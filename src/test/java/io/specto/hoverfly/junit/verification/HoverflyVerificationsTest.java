@@ -11,7 +11,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
@@ -123,4 +127,29 @@ public class HoverflyVerificationsTest {
                 .hasMessageContaining("Expected at most 2 requests")
                 .hasMessageContaining("But actual number of requests is 3");
     }
+
+    @Test
+    public void shouldVerifyLatencyAtPercentile() {
+        VerificationData data = new VerificationData(new Journal(latencies(1, 2, 3, 4, 30), 0, 25, 5));
+
+        HoverflyVerifications.latencyAtPercentile(50, Duration.ofMillis(5)).verify(request, data);
+        assertThatThrownBy(() -> HoverflyVerifications.latencyAtPercentile(99, Duration.ofMillis(20)).verify(request, data))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("Expected p99 latency of at most 20.000 ms")
+                .hasMessageContaining("But actual p99 latency is 30.000 ms");
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenVerifyLatencyWithoutRequests() {
+        VerificationData data = new VerificationData(new Journal(Collections.emptyList(), 0, 25, 0));
+        assertThatThrownBy(() -> HoverflyVerifications.latencyAtPercentile(99, Duration.ofMillis(20)).verify(request, data))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("no request was found");
+    }
+
+    private List<JournalEntry> latencies(double... latencies) {
+        return Arrays.stream(latencies)
+                .mapToObj(latency -> new JournalEntry(journalEntry.getRequest(), null, "simulate", journalEntry.getTimeStarted(), latency))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,93 @@
+package io.specto.hoverfly.junit.verification;
+
+import com.google.common.collect.ImmutableMap;
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.core.model.Journal;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import org.assertj.core.util.Lists;
+import org.junit.Test;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.matchesPartialJson;
+import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.startsWith;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeast;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JournalSnapshotTest {
+
+    private final JournalSnapshot snapshot = JournalSnapshot.of(new Journal(Arrays.asList(
+            entry("GET", "/api/bookings/1", "", "", ImmutableMap.of("Authorization", Lists.newArrayList("Bearer token"))),
+            entry("GET", "/api/bookings", "page=1&size=10", "", Collections.emptyMap()),
+            entry("POST", "/api/bookings", "", "{\"flightId\":\"1\",\"class\":\"PREMIUM\"}", ImmutableMap.of("Content-Type", Lists.newArrayList("application/json"))),
+            entry("GET", "/api/bookings/1", "", "", Collections.emptyMap())
+    ), 0, 4, 4));
+
+    @Test
+    public void shouldSearchEntriesMatchingRequest() {
+        Journal journal = snapshot.search(service("http://www.my-test.com").get("/api/bookings/1").build());
+
+        assertThat(journal.getEntries()).hasSize(2);
+        assertThat(journal.getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldMatchQueryParams() {
+        snapshot.verify(service("www.my-test.com").get("/api/bookings").queryParam("page", 1).queryParam("size", 10));
+        snapshot.verify(service("www.my-test.com").get("/api/bookings").anyQueryParams());
+        snapshot.verify(service("www.my-test.com").get("/api/bookings").queryParam("page", 1), never());
+        snapshot.verify(service("www.my-test.com").get("/api/bookings"), never());
+    }
+
+    @Test
+    public void shouldMatchHeadersIgnoringCaseOfNames() {
+        snapshot.verify(service("www.my-test.com").get("/api/bookings/1").header("authorization", "Bearer token"));
+        snapshot.verify(service("www.my-test.com").get(startsWith("/api/bookings")).header("Authorization"), times(1));
+    }
+
+    @Test
+    public void shouldMatchBody() {
+        snapshot.verify(service("www.my-test.com").post("/api/bookings").body(matchesPartialJson("{\"class\":\"PREMIUM\"}")));
+        snapshot.verify(service("www.my-test.com").post("/api/bookings").body("{}"), never());
+    }
+
+    @Test
+    public void shouldFailVerificationWithMatchedEntries() {
+        assertThatThrownBy(() -> snapshot.verify(service("www.my-test.com").get("/api/bookings/1"), atLeast(3)))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageContaining("Expected at least 3 request")
+                .hasMessageContaining("But actual number of requests is 2");
+    }
+
+    @Test
+    public void shouldFetchJournalOnce() {
+        HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+        when(hoverflyClient.streamJournal(JournalSnapshot.PAGE_SIZE)).thenReturn(Stream.of(
+                entry("DELETE", "/api/bookings/1", "", "", Collections.emptyMap())));
+
+        JournalSnapshot fetched = JournalSnapshot.fetch(hoverflyClient);
+        fetched.verify(service("www.my-test.com").delete("/api/bookings/1"));
+        fetched.verify(service("www.my-test.com").delete("/api/bookings/2"), never());
+
+        assertThat(fetched.getEntries()).hasSize(1);
+        verify(hoverflyClient).streamJournal(JournalSnapshot.PAGE_SIZE);
+    }
+
+    private static JournalEntry entry(String method, String path, String query, String body, Map<String, List<String>> headers) {
+        RequestDetails request = new RequestDetails("http", "www.my-test.com", path, query, body, method, headers);
+        return new JournalEntry(request, null, "simulate", ZonedDateTime.now(), 1d);
+    }
+}
@@ -0,0 +1,101 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.api.HoverflyClient;
+import io.specto.hoverfly.junit.core.model.JournalEntry;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.verification.JournalStatistics.RequestGroup;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JournalStatisticsTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2018, 10, 1, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Test
+    public void shouldCalculatePercentilesWithinOnePercent() {
+        double[] latencies = new Random(42).doubles(10_000, 0.05, 5_000).toArray();
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (double latency : latencies) {
+            histogram.record(Math.round(latency * 1000));
+        }
+        double[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            double expectedMicros = sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1] * 1000;
+            assertThat((double) histogram.getValueAtPercentile(percentile)).isCloseTo(expectedMicros, within(expectedMicros * 0.01));
+        }
+        assertThat(histogram.getTotalCount()).isEqualTo(10_000);
+    }
+
+    @Test
+    public void shouldMapEveryValueToBucketContainingIt() {
+        for (long value : new long[]{0, 1, 255, 256, 257, 511, 512, 1_000_000, 3_600_000_000L}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LatencyHistogram.highestValueOf(index - 1) < value).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldGroupRequestsByDestinationMethodAndPathTemplate() {
+        JournalStatistics statistics = JournalStatistics.of(Stream.of(
+                entry("payments.svc", "GET", "/api/payments/1", 0, 2.0),
+                entry("payments.svc", "GET", "/api/payments/2", 1, 4.0),
+                entry("payments.svc", "POST", "/api/payments", 2, 10.0),
+                entry("bookings.svc", "GET", "/api/bookings/6b5a2f0e-3b8c-4b8e-9f8a-1c2d3e4f5a6b", 3, 1.0)));
+
+        assertThat(statistics.getGroups().keySet()).containsExactly(
+                new RequestGroup("payments.svc", "GET", "/api/payments/{id}"),
+                new RequestGroup("payments.svc", "POST", "/api/payments"),
+                new RequestGroup("bookings.svc", "GET", "/api/bookings/{id}"));
+
+        LatencyStatistics payments = statistics.forGroup("payments.svc", "GET", "/api/payments/{id}");
+        assertThat(payments.getCount()).isEqualTo(2);
+        assertThat(payments.getP50().toNanos()).isCloseTo(Duration.ofMillis(2).toNanos(), withinPercentage(1));
+        assertThat(payments.getMax()).isEqualTo(Duration.ofMillis(4));
+
+        assertThat(statistics.forDestination("payments.svc").getCount()).isEqualTo(3);
+        assertThat(statistics.forDestination("payments.svc").getP99()).isEqualTo(Duration.ofMillis(10));
+        assertThat(statistics.getOverall().getCount()).isEqualTo(4);
+        assertThat(statistics.forDestination("unknown.svc").getCount()).isZero();
+    }
+
+    @Test
+    public void shouldCalculateThroughput() {
+        JournalStatistics statistics = JournalStatistics.of(IntStream.range(0, 101)
+                .mapToObj(i -> entry("payments.svc", "GET", "/api/payments", i * 100, 1.0)));
+
+        assertThat(statistics.getOverall().getThroughputPerSecond()).isCloseTo(10.1, within(0.01));
+    }
+
+    @Test
+    public void shouldStreamJournalFromHoverfly() {
+        HoverflyClient hoverflyClient = mock(HoverflyClient.class);
+        when(hoverflyClient.streamJournal(JournalStatistics.PAGE_SIZE)).thenReturn(Stream.of(
+                entry("payments.svc", "GET", "/api/payments", 0, 3.0)));
+
+        JournalStatistics statistics = JournalStatistics.fetch(hoverflyClient);
+
+        assertThat(statistics.getOverall().getP999()).isEqualTo(Duration.ofMillis(3));
+    }
+
+    private static JournalEntry entry(String destination, String method, String path, long startedAfterMillis, Double latency) {
+        RequestDetails request = new RequestDetails("http", destination, path, "", "", method, Collections.emptyMap());
+        return new JournalEntry(request, null, "simulate", START.plusNanos(startedAfterMillis * 1_000_000), latency);
+    }
+}
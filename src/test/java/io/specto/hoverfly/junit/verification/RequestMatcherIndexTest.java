@@ -0,0 +1,102 @@
+package io.specto.hoverfly.junit.verification;
+
+import io.specto.hoverfly.junit.core.model.Request;
+import io.specto.hoverfly.junit.core.model.RequestDetails;
+import io.specto.hoverfly.junit.core.model.RequestFieldMatcher;
+import org.junit.Test;
+
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newExactMatcher;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newGlobMatcher;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newJsonPathMatch;
+import static io.specto.hoverfly.junit.core.model.RequestFieldMatcher.newRegexMatcher;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestMatcherIndexTest {
+
+    private final RequestMatcherIndex<String> index = new RequestMatcherIndex<>();
+
+    @Test
+    public void shouldFindMatchersByExactFields() {
+        index.add(request("GET", "api.flight.com", newExactMatcher("/bookings")), "get bookings");
+        index.add(request("POST", "api.flight.com", newExactMatcher("/bookings")), "post bookings");
+        index.add(request("GET", "api.hotel.com", newExactMatcher("/bookings")), "hotel bookings");
+
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/bookings"))).containsExactly("get bookings");
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/flights"))).isEmpty();
+    }
+
+    @Test
+    public void shouldFindMatchersWithoutExactFieldsForAnyValue() {
+        index.add(new Request.Builder().path(singletonList(newExactMatcher("/bookings"))).build(), "any destination");
+        index.add(request(null, "api.flight.com", newExactMatcher("/bookings")), "any method");
+
+        assertThat(index.findAll(requestDetails("DELETE", "api.flight.com", "/bookings")))
+                .containsExactly("any destination", "any method");
+        assertThat(index.findAll(requestDetails("GET", "api.hotel.com", "/bookings"))).containsExactly("any destination");
+    }
+
+    @Test
+    public void shouldFindGlobPathsByPrefix() {
+        index.add(request("GET", "api.flight.com", newGlobMatcher("/bookings/*")), "any booking");
+        index.add(request("GET", "api.flight.com", newGlobMatcher("/bookings/*/passengers")), "passengers");
+        index.add(request("GET", "api.flight.com", newGlobMatcher("*")), "anything");
+
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/bookings/1/passengers")))
+                .containsExactly("any booking", "passengers", "anything");
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/flights/1"))).containsExactly("anything");
+    }
+
+    @Test
+    public void shouldFindAnchoredRegexPathsByLiteralPrefix() {
+        index.add(request("GET", "api.flight.com", newRegexMatcher("^/bookings/[0-9]+$")), "booking");
+        index.add(request("GET", "api.flight.com", newRegexMatcher("^/bookings?/1")), "optional character");
+        index.add(request("GET", "api.flight.com", newRegexMatcher("^\\/flights\\.json")), "escaped characters");
+        index.add(request("GET", "api.flight.com", newRegexMatcher("^/bookings|^/flights")), "alternation");
+
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/bookings/1")))
+                .containsExactly("booking", "optional character", "alternation");
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/booking/1"))).containsExactly("optional character");
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/flights.json")))
+                .containsExactly("escaped characters", "alternation");
+    }
+
+    @Test
+    public void shouldTryOtherMatchersForEveryRequest() {
+        index.add(request("GET", "api.flight.com", newRegexMatcher("/bookings/[0-9]+$")), "regex");
+        index.add(new Request.Builder()
+                .destination(singletonList(newExactMatcher("api.flight.com")))
+                .body(singletonList(newJsonPathMatch("$.flightId")))
+                .build(), "json path");
+
+        assertThat(index.findAll(requestDetails("GET", "api.flight.com", "/bookings/1"))).containsExactly("regex");
+        assertThat(index.findAll(new RequestDetails("http", "api.flight.com", "/flights", "", "{\"flightId\":1}", "POST", emptyMap())))
+                .containsExactly("json path");
+    }
+
+    @Test
+    public void shouldFindFirstAcceptedMatcherInTheOrderAdded() {
+        index.add(request("GET", "api.flight.com", newGlobMatcher("/bookings/*")), "first");
+        index.add(request("GET", "api.flight.com", newExactMatcher("/bookings/1")), "second");
+        index.add(request("GET", "api.flight.com", newExactMatcher("/bookings/1")), "third");
+
+        assertThat(index.findFirst(requestDetails("GET", "api.flight.com", "/bookings/1"), value -> true)).isEqualTo("first");
+        assertThat(index.findFirst(requestDetails("GET", "api.flight.com", "/bookings/1"), value -> !value.equals("first")))
+                .isEqualTo("second");
+        assertThat(index.findFirst(requestDetails("GET", "api.flight.com", "/flights"), value -> true)).isNull();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static Request request(String method, String destination, RequestFieldMatcher path) {
+        return new Request.Builder()
+                .method(method == null ? null : singletonList(newExactMatcher(method)))
+                .destination(singletonList(newExactMatcher(destination)))
+                .path(singletonList(path))
+                .build();
+    }
+
+    private static RequestDetails requestDetails(String method, String destination, String path) {
+        return new RequestDetails("http", destination, path, "", "", method, emptyMap());
+    }
+}
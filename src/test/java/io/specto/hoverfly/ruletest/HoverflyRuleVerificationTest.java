@@ -17,13 +17,16 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.LocalDate;
+import java.util.Arrays;
 
 import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
 import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
 import static io.specto.hoverfly.junit.dsl.HttpBodyConverter.json;
 import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
 import static io.specto.hoverfly.junit.dsl.matchers.HoverflyMatchers.*;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.atLeastOnce;
 import static io.specto.hoverfly.junit.verification.HoverflyVerifications.never;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -144,6 +147,29 @@ public class HoverflyRuleVerificationTest {
                        "But actual number of requests is 0.");
     }
 
+    @Test
+    public void shouldReportAllFailedVerificationsTogether() {
+
+        assertThatThrownBy(() -> hoverflyRule.verify(Arrays.asList(
+                service(matches("api*.flight.com")).get("/api/bookings").anyQueryParams(),
+                service(matches("api*.flight.com")).put("/api/bookings/1").anyBody()), atLeastOnce()))
+                .isInstanceOf(HoverflyVerificationError.class)
+                .hasMessageStartingWith("2 of 2 verifications failed:")
+                .hasMessageContaining("1) Expected at least 1 request:")
+                .hasMessageContaining("2) Expected at least 1 request:");
+    }
+
+    @Test
+    public void shouldVerifyManyRequestMatchersAtOnce() throws Exception {
+
+        getBookings();
+        putBooking();
+
+        hoverflyRule.verify(Arrays.asList(
+                service(matches("api*.flight.com")).get("/api/bookings").anyQueryParams(),
+                service(matches("api*.flight.com")).put("/api/bookings/1").anyBody()), times(1));
+    }
+
     private ResponseEntity<SimpleBooking> getBookings() {
         URI uri = UriComponentsBuilder.fromHttpUrl("http://api-sandbox.flight.com")
                 .path("/api/bookings")